@@ -0,0 +1,43 @@
+package com.keroz.beancopyutils.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmarks at 1, 8 and 32 threads, with the GC profiler enabled to
+ * report allocations (B/op).
+ * <p>
+ * Usage: {@code java -jar benchmarks.jar [regexp] [threads...]}, or run
+ * {@code org.openjdk.jmh.Main} directly for the full JMH command line.
+ */
+public class BenchmarkRunner {
+
+    private static final int[] DEFAULT_THREADS = { 1, 8, 32 };
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.keroz.beancopyutils.benchmark.*";
+        int[] threads = DEFAULT_THREADS;
+        if (args.length > 1) {
+            threads = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                threads[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+        for (int t : threads) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .include(include)
+                    .threads(t)
+                    .addProfiler(GCProfiler.class)
+                    .result("jmh-result-" + t + "-threads.json")
+                    .resultFormat(ResultFormatType.JSON)
+                    .timeout(TimeValue.minutes(5));
+            new Runner(options.build()).run();
+        }
+    }
+
+}
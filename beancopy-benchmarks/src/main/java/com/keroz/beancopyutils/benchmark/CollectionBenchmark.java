@@ -0,0 +1,149 @@
+package com.keroz.beancopyutils.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.keroz.beancopyutils.BeanCopyUtils;
+import com.keroz.beancopyutils.benchmark.model.HandWrittenMappers;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatSource;
+import com.keroz.beancopyutils.benchmark.model.Models.AddressSource;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedSource;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedTarget;
+import com.keroz.beancopyutils.copier.CopyOptions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks copying collections, maps and arrays of beans, each against a
+ * hand-written baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionBenchmark {
+
+    private static final CopyOptions IDENTITY_PRESERVING = CopyOptions.DEFAULT.withIdentityPreserved(true);
+
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private ArrayList<FlatSource> sourceList;
+    private FlatSource[] sourceArray;
+    private HashMap<String, FlatSource> sourceMap;
+    private ArrayList<NestedSource> sharedList;
+
+    @Setup
+    public void setUp() {
+        sourceList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sourceList.add(new FlatSource());
+        }
+        sourceArray = sourceList.toArray(new FlatSource[0]);
+        AddressSource sharedAddress = new AddressSource();
+        sharedList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            NestedSource nestedSource = new NestedSource();
+            nestedSource.setAddress(sharedAddress);
+            nestedSource.setBillingAddress(sharedAddress);
+            sharedList.add(nestedSource);
+        }
+        sourceMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            sourceMap.put(String.valueOf(i), sourceList.get(i));
+        }
+    }
+
+    @Benchmark
+    public List<FlatTarget> copyCollection(CopierState state) {
+        return BeanCopyUtils.copyCollection(sourceList, FlatTarget.class);
+    }
+
+    @Benchmark
+    public List<FlatTarget> copyCollectionParallel(CopierState state) {
+        return BeanCopyUtils.copyCollectionParallel(sourceList, FlatTarget.class);
+    }
+
+    /**
+     * Copies the whole collection lazily but reads only its first ten elements,
+     * as when serializing a page of it.
+     */
+    @Benchmark
+    public void copyCollectionLazyPage(CopierState state, Blackhole blackhole) {
+        List<FlatTarget> targetList = BeanCopyUtils.copyCollectionLazy(sourceList, FlatTarget.class);
+        for (int i = 0, n = Math.min(10, targetList.size()); i < n; i++) {
+            blackhole.consume(targetList.get(i));
+        }
+    }
+
+    @Benchmark
+    public List<FlatTarget> copyCollectionBaseline() {
+        List<FlatTarget> targetList = new ArrayList<>(sourceList.size());
+        for (FlatSource source : sourceList) {
+            targetList.add(HandWrittenMappers.toFlatTarget(source));
+        }
+        return targetList;
+    }
+
+    /**
+     * Copies beans sharing a nested bean, copying it once per reference.
+     */
+    @Benchmark
+    public List<NestedTarget> copySharedCollection(CopierState state) {
+        return BeanCopyUtils.copyCollection(sharedList, NestedTarget.class);
+    }
+
+    /**
+     * Copies beans sharing a nested bean, copying it only once.
+     */
+    @Benchmark
+    public List<NestedTarget> copySharedCollectionPreservingIdentity(CopierState state) {
+        return BeanCopyUtils.copyCollection(sharedList, NestedTarget.class, IDENTITY_PRESERVING);
+    }
+
+    @Benchmark
+    public Map<String, FlatTarget> copyMap(CopierState state) {
+        return BeanCopyUtils.copyMap(sourceMap, String.class, FlatTarget.class);
+    }
+
+    @Benchmark
+    public Map<String, FlatTarget> copyMapBaseline() {
+        Map<String, FlatTarget> targetMap = new HashMap<>((int) (sourceMap.size() / 0.75f) + 1);
+        for (Map.Entry<String, FlatSource> entry : sourceMap.entrySet()) {
+            targetMap.put(entry.getKey(), HandWrittenMappers.toFlatTarget(entry.getValue()));
+        }
+        return targetMap;
+    }
+
+    @Benchmark
+    public Object copyArray(CopierState state) {
+        return BeanCopyUtils.getCopier().copyArray(sourceArray, FlatTarget.class, null, null);
+    }
+
+    @Benchmark
+    public FlatTarget[] copyArrayBaseline() {
+        FlatTarget[] targetArray = new FlatTarget[sourceArray.length];
+        for (int i = 0; i < sourceArray.length; i++) {
+            targetArray[i] = HandWrittenMappers.toFlatTarget(sourceArray[i]);
+        }
+        return targetArray;
+    }
+
+}
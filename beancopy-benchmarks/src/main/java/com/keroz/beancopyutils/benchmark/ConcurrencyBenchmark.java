@@ -0,0 +1,125 @@
+package com.keroz.beancopyutils.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.keroz.beancopyutils.benchmark.model.Models.ConverterSource;
+import com.keroz.beancopyutils.benchmark.model.Models.ConverterTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatSource;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.IgnoreTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedSource;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedTarget;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Stress benchmarks for the copier caches under contention. Throughput per
+ * thread should stay flat as the thread count grows, run e.g.
+ * {@code java -jar benchmarks.jar Concurrency 1 8 16 32 64}.
+ */
+@Fork(1)
+public class ConcurrencyBenchmark {
+
+    private static final Object[] SOURCES = { new FlatSource(), new NestedSource(), new ConverterSource(),
+            new FlatSource() };
+    private static final Class<?>[] TARGETS = { FlatTarget.class, NestedTarget.class, ConverterTarget.class,
+            IgnoreTarget.class };
+
+    @State(Scope.Benchmark)
+    public static class SharedCopier {
+
+        @Param({ "default", "generated" })
+        public String copier;
+
+        Copier instance;
+
+        Copier newCopier() {
+            switch (copier) {
+                case "default":
+                    return new DefaultCopier();
+                case "generated":
+                    return new GeneratedCopier();
+                default:
+                    throw new IllegalArgumentException("Unknown copier: " + copier);
+            }
+        }
+
+    }
+
+    /**
+     * A copier shared by all threads and warmed up for the whole trial.
+     */
+    @State(Scope.Benchmark)
+    public static class WarmCopier extends SharedCopier {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            instance = newCopier();
+        }
+
+    }
+
+    /**
+     * A fresh copier for each iteration, so that all threads race to build the
+     * same caches.
+     */
+    @State(Scope.Benchmark)
+    public static class ColdCopier extends SharedCopier {
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            instance = newCopier();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+    }
+
+    /**
+     * Copies across several (source, target) pairs in turn.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object copyAcrossPairs(WarmCopier state, Cursor cursor) {
+        int i = cursor.next++ & (TARGETS.length - 1);
+        return state.instance.copy(SOURCES[i], TARGETS[i], null, null);
+    }
+
+    /**
+     * The first copy of every pair, racing against the other threads.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public void firstCopy(ColdCopier state, Blackhole blackhole) {
+        for (int i = 0; i < TARGETS.length; i++) {
+            blackhole.consume(state.instance.copy(SOURCES[i], TARGETS[i], null, null));
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.keroz.beancopyutils.benchmark;
+
+import com.keroz.beancopyutils.BeanCopyUtils;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Selects the copier used by {@code BeanCopyUtils} for a trial.
+ */
+@State(Scope.Benchmark)
+public class CopierState {
+
+    @Param({ "default", "generated" })
+    public String copier;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (copier) {
+            case "default":
+                BeanCopyUtils.setCopier(new DefaultCopier());
+                break;
+            case "generated":
+                BeanCopyUtils.setCopier(new GeneratedCopier());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown copier: " + copier);
+        }
+    }
+
+}
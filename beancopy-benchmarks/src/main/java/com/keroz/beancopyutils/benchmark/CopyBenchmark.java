@@ -0,0 +1,140 @@
+package com.keroz.beancopyutils.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.keroz.beancopyutils.BeanCopyUtils;
+import com.keroz.beancopyutils.benchmark.model.HandWrittenMappers;
+import com.keroz.beancopyutils.benchmark.model.Models.ConverterSource;
+import com.keroz.beancopyutils.benchmark.model.Models.ConverterTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatSource;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.IgnoreTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedSource;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.NumericSource;
+import com.keroz.beancopyutils.benchmark.model.Models.NumericTarget;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks copying single beans, each against a hand-written baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CopyBenchmark {
+
+    private static final Class<?>[] GROUPS = { IgnoreTarget.IncludingEmail.class,
+            IgnoreTarget.ExcludingName.class };
+    private static final CopyOptions GROUP_OPTIONS = CopyOptions.of(GROUPS);
+
+    /**
+     * Holds a mapper of the copier selected for the trial.
+     */
+    @State(Scope.Benchmark)
+    public static class MapperState {
+
+        Mapper<FlatSource, FlatTarget> mapper;
+
+        @Setup(Level.Trial)
+        public void setUp(CopierState copierState) {
+            mapper = BeanCopyUtils.mapper(FlatSource.class, FlatTarget.class);
+        }
+
+    }
+
+    private final FlatSource flatSource = new FlatSource();
+    private final NestedSource nestedSource = new NestedSource();
+    private final ConverterSource converterSource = new ConverterSource();
+    private final NumericSource numericSource = new NumericSource();
+    private final NumericTarget numericTarget = new NumericTarget();
+
+    @Benchmark
+    public FlatTarget copyToClass(CopierState state) {
+        return BeanCopyUtils.copy(flatSource, FlatTarget.class);
+    }
+
+    @Benchmark
+    public FlatTarget copyToClassWithMapper(MapperState state) {
+        return state.mapper.map(flatSource);
+    }
+
+    @Benchmark
+    public FlatTarget copyToClassBaseline() {
+        return HandWrittenMappers.toFlatTarget(flatSource);
+    }
+
+    @Benchmark
+    public FlatTarget copyToInstance(CopierState state) {
+        FlatTarget target = new FlatTarget();
+        BeanCopyUtils.copy(flatSource, target);
+        return target;
+    }
+
+    @Benchmark
+    public FlatTarget copyToInstanceBaseline() {
+        return HandWrittenMappers.copy(flatSource, new FlatTarget());
+    }
+
+    @Benchmark
+    public NumericTarget copyNumericToInstance(CopierState state) {
+        BeanCopyUtils.copy(numericSource, numericTarget);
+        return numericTarget;
+    }
+
+    @Benchmark
+    public NumericTarget copyNumericToInstanceBaseline() {
+        return HandWrittenMappers.copy(numericSource, numericTarget);
+    }
+
+    @Benchmark
+    public NestedTarget copyNested(CopierState state) {
+        return BeanCopyUtils.copy(nestedSource, NestedTarget.class);
+    }
+
+    @Benchmark
+    public NestedTarget copyNestedBaseline() {
+        return HandWrittenMappers.toNestedTarget(nestedSource);
+    }
+
+    @Benchmark
+    public ConverterTarget copyWithConverter(CopierState state) {
+        return BeanCopyUtils.copy(converterSource, ConverterTarget.class);
+    }
+
+    @Benchmark
+    public ConverterTarget copyWithConverterBaseline() {
+        return HandWrittenMappers.toConverterTarget(converterSource);
+    }
+
+    @Benchmark
+    public IgnoreTarget copyWithIgnore(CopierState state) {
+        return BeanCopyUtils.copy(flatSource, IgnoreTarget.class, GROUPS);
+    }
+
+    @Benchmark
+    public IgnoreTarget copyWithIgnoreOptions(CopierState state) {
+        return BeanCopyUtils.copy(flatSource, IgnoreTarget.class, GROUP_OPTIONS);
+    }
+
+    @Benchmark
+    public IgnoreTarget copyWithIgnoreBaseline() {
+        return HandWrittenMappers.toIgnoreTarget(flatSource, true, true);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.keroz.beancopyutils.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.keroz.beancopyutils.BeanCopyUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks copying arrays whose elements are shared, each against
+ * {@link Arrays#copyOf} or a hand-written loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArrayBenchmark {
+
+    @Param({ "100", "100000" })
+    public int size;
+
+    private int[] intArray;
+    private String[] stringArray;
+
+    @Setup
+    public void setUp() {
+        intArray = new int[size];
+        stringArray = new String[size];
+        for (int i = 0; i < size; i++) {
+            intArray[i] = i;
+            stringArray[i] = String.valueOf(i);
+        }
+    }
+
+    @Benchmark
+    public Object copyIntArray() {
+        return BeanCopyUtils.getCopier().copyArray(intArray, int.class, null, null);
+    }
+
+    @Benchmark
+    public int[] copyIntArrayBaseline() {
+        return Arrays.copyOf(intArray, intArray.length);
+    }
+
+    @Benchmark
+    public Object widenIntArray() {
+        return BeanCopyUtils.getCopier().copyArray(intArray, long.class, null, null);
+    }
+
+    @Benchmark
+    public long[] widenIntArrayBaseline() {
+        long[] longArray = new long[intArray.length];
+        for (int i = 0; i < intArray.length; i++) {
+            longArray[i] = intArray[i];
+        }
+        return longArray;
+    }
+
+    @Benchmark
+    public Object copyStringArray() {
+        return BeanCopyUtils.getCopier().copyArray(stringArray, String.class, null, null);
+    }
+
+    @Benchmark
+    public String[] copyStringArrayBaseline() {
+        return Arrays.copyOf(stringArray, stringArray.length);
+    }
+
+}
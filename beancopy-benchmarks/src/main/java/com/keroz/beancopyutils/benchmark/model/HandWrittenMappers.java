@@ -0,0 +1,98 @@
+package com.keroz.beancopyutils.benchmark.model;
+
+import java.util.Date;
+
+import com.keroz.beancopyutils.benchmark.model.Models.AddressSource;
+import com.keroz.beancopyutils.benchmark.model.Models.AddressTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.ConverterSource;
+import com.keroz.beancopyutils.benchmark.model.Models.ConverterTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatSource;
+import com.keroz.beancopyutils.benchmark.model.Models.FlatTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.IgnoreTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedSource;
+import com.keroz.beancopyutils.benchmark.model.Models.NestedTarget;
+import com.keroz.beancopyutils.benchmark.model.Models.NumericSource;
+import com.keroz.beancopyutils.benchmark.model.Models.NumericTarget;
+
+/**
+ * Hand-written mappers serving as baselines, doing the same work as the
+ * copiers.
+ */
+public final class HandWrittenMappers {
+
+    private HandWrittenMappers() {
+    }
+
+    public static FlatTarget toFlatTarget(FlatSource source) {
+        return copy(source, new FlatTarget());
+    }
+
+    public static FlatTarget copy(FlatSource source, FlatTarget target) {
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setEmail(source.getEmail());
+        target.setAge(source.getAge());
+        target.setScore(source.getScore());
+        target.setActive(source.isActive());
+        target.setCreatedAt(source.getCreatedAt());
+        target.setStatus(source.getStatus());
+        return target;
+    }
+
+    public static NumericTarget copy(NumericSource source, NumericTarget target) {
+        target.setCount(source.getCount());
+        target.setTotal(source.getTotal());
+        target.setMean(source.getMean());
+        target.setRatio(source.getRatio());
+        target.setCode(source.getCode());
+        target.setFlags(source.getFlags());
+        target.setGrade(source.getGrade());
+        target.setValid(source.isValid());
+        target.setSampleCount(source.getSampleCount());
+        target.setDuration(source.getDuration());
+        return target;
+    }
+
+    public static AddressTarget toAddressTarget(AddressSource source) {
+        if (source == null) {
+            return null;
+        }
+        AddressTarget target = new AddressTarget();
+        target.setStreet(source.getStreet());
+        target.setCity(source.getCity());
+        target.setZip(source.getZip());
+        return target;
+    }
+
+    public static NestedTarget toNestedTarget(NestedSource source) {
+        NestedTarget target = new NestedTarget();
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setAddress(toAddressTarget(source.getAddress()));
+        target.setBillingAddress(toAddressTarget(source.getBillingAddress()));
+        return target;
+    }
+
+    public static ConverterTarget toConverterTarget(ConverterSource source) {
+        ConverterTarget target = new ConverterTarget();
+        target.setId(source.getId());
+        target.setUpdatedAt(new Date(source.getTimestamp()));
+        return target;
+    }
+
+    public static IgnoreTarget toIgnoreTarget(FlatSource source, boolean includingEmail, boolean excludingName) {
+        IgnoreTarget target = new IgnoreTarget();
+        target.setId(source.getId());
+        if (!excludingName) {
+            target.setName(source.getName());
+        }
+        if (includingEmail) {
+            target.setEmail(source.getEmail());
+        }
+        if (!target.shouldIgnoreAge(source)) {
+            target.setAge(source.getAge());
+        }
+        return target;
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.keroz.beancopyutils.benchmark.model;
+
+import java.util.Date;
+
+import com.keroz.beancopyutils.annotation.AliasFor;
+import com.keroz.beancopyutils.annotation.Converter;
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+
+import lombok.Data;
+
+/**
+ * Beans used by the benchmarks, each target class covers a certain copy path.
+ */
+public final class Models {
+
+    private Models() {
+    }
+
+    public static enum Status {
+        ACTIVE, INACTIVE
+    }
+
+    @Data
+    public static class FlatSource {
+        private long id = 1L;
+        private String name = "name";
+        private String email = "name@example.com";
+        private int age = 30;
+        private double score = 99.5;
+        private boolean active = true;
+        private Date createdAt = new Date(1603941172886L);
+        private Status status = Status.ACTIVE;
+    }
+
+    @Data
+    public static class FlatTarget {
+        private long id;
+        private String name;
+        private String email;
+        private int age;
+        private double score;
+        private boolean active;
+        private Date createdAt;
+        private Status status;
+    }
+
+    @Data
+    public static class NumericSource {
+        private int count = 42;
+        private long total = 1603941172886L;
+        private double mean = 99.5;
+        private float ratio = 0.5f;
+        private short code = 7;
+        private byte flags = 3;
+        private char grade = 'A';
+        private boolean valid = true;
+        private int sampleCount = 1024;
+        private long duration = 86400000L;
+    }
+
+    @Data
+    public static class NumericTarget {
+        private int count;
+        private long total;
+        private double mean;
+        private float ratio;
+        private short code;
+        private byte flags;
+        private char grade;
+        private boolean valid;
+        private long sampleCount;
+        private double duration;
+    }
+
+    @Data
+    public static class AddressSource {
+        private String street = "street";
+        private String city = "city";
+        private String zip = "000000";
+    }
+
+    @Data
+    public static class AddressTarget {
+        private String street;
+        private String city;
+        private String zip;
+    }
+
+    @Data
+    public static class NestedSource {
+        private long id = 1L;
+        private String name = "name";
+        private AddressSource address = new AddressSource();
+        private AddressSource billingAddress = new AddressSource();
+    }
+
+    @Data
+    public static class NestedTarget {
+        private long id;
+        private String name;
+        private AddressTarget address;
+        private AddressTarget billingAddress;
+    }
+
+    @Data
+    public static class ConverterSource {
+        private long id = 1L;
+        private long timestamp = 1603941172886L;
+    }
+
+    @Data
+    public static class ConverterTarget {
+        private long id;
+        @AliasFor("timestamp")
+        @Converter(TimestampToDateConverter.class)
+        private Date updatedAt;
+    }
+
+    public static class TimestampToDateConverter implements com.keroz.beancopyutils.converter.Converter<Long, Date> {
+
+        @Override
+        public Date convert(Long source) {
+            return new Date(source);
+        }
+
+    }
+
+    @Data
+    public static class IgnoreTarget {
+
+        public static interface IncludingEmail {
+        }
+
+        public static interface ExcludingName {
+        }
+
+        private long id;
+        @CopyIgnore(defaultIgnored = false, exceptionGroups = ExcludingName.class)
+        private String name;
+        @CopyIgnore(exceptionGroups = IncludingEmail.class)
+        private String email;
+        @CopyIgnore(supplierMethod = "shouldIgnoreAge")
+        private int age;
+
+        public boolean shouldIgnoreAge(Object source) {
+            return ((FlatSource) source).getAge() < 0;
+        }
+    }
+
+}
@@ -0,0 +1,614 @@
+package com.keroz.beancopyutils.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates the source code of a
+ * {@link com.keroz.beancopyutils.copier.TypedCopier TypedCopier} for a certain
+ * pair of source class and target class. The generated code mirrors what
+ * {@code DefaultCopier} does at runtime.
+ */
+class CopierGenerator {
+
+    static final String COPY_FROM = "com.keroz.beancopyutils.annotation.CopyFrom";
+    private static final String ALIAS_FOR = "com.keroz.beancopyutils.annotation.AliasFor";
+    private static final String CONVERTER = "com.keroz.beancopyutils.annotation.Converter";
+    private static final String COPY_IGNORE = "com.keroz.beancopyutils.annotation.CopyIgnore";
+    private static final String TO_COLLECTION = "com.keroz.beancopyutils.annotation.ToCollection";
+    private static final String IGNORE_POLICY = "com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy";
+    private static final String COPY_OPTIONS = "com.keroz.beancopyutils.copier.CopyOptions";
+    private static final String SUPPORT = "com.keroz.beancopyutils.copier.CopyIgnoreSupport";
+    private static final List<String> IMMUTABLE_ANNOTATIONS = Arrays.asList(
+            "com.keroz.beancopyutils.annotation.Immutable", "javax.annotation.concurrent.Immutable",
+            "com.google.errorprone.annotations.Immutable");
+    /**
+     * The types registered by {@code ImmutableTypes} at runtime, kept in sync by
+     * {@code CopierProcessorTest}.
+     */
+    static final List<String> IMMUTABLE_TYPES = Arrays.asList("java.math.BigDecimal",
+            "java.math.BigInteger", "java.util.UUID", "java.net.URI", "java.util.Currency", "java.util.Locale",
+            "java.util.regex.Pattern", "java.lang.Class", "java.time.Duration", "java.time.Period",
+            "java.time.ZoneId", "java.util.Optional", "java.util.OptionalInt", "java.util.OptionalLong",
+            "java.util.OptionalDouble");
+
+    /**
+     * Thrown if a copier can not be generated for a pair.
+     */
+    static class UnsupportedPairException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Element element;
+        private final Kind kind;
+
+        UnsupportedPairException(String message, Element element) {
+            this(message, element, Kind.WARNING);
+        }
+
+        UnsupportedPairException(String message, Element element, Kind kind) {
+            super(message);
+            this.element = element;
+            this.kind = kind;
+        }
+
+        Element getElement() {
+            return this.element;
+        }
+
+        Kind getKind() {
+            return this.kind;
+        }
+
+    }
+
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement sourceType;
+    private final TypeElement targetType;
+    private final PackageElement packageElement;
+    private final String simpleName;
+
+    private final StringBuilder constants = new StringBuilder();
+    private final StringBuilder body = new StringBuilder();
+    private int constantCount;
+
+    CopierGenerator(ProcessingEnvironment processingEnv, TypeElement sourceType, TypeElement targetType) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.packageElement = elements.getPackageOf(targetType);
+        String sourceName = flatName(sourceType);
+        if (!elements.getPackageOf(sourceType).equals(packageElement)) {
+            // Sources of the same simple name may come from different packages
+            sourceName += "_" + Integer.toHexString(sourceType.getQualifiedName().toString().hashCode());
+        }
+        this.simpleName = flatName(targetType) + "From" + sourceName + "Copier";
+    }
+
+    String getQualifiedName() {
+        return packageElement.isUnnamed() ? simpleName : packageElement.getQualifiedName() + "." + simpleName;
+    }
+
+    String generate() throws UnsupportedPairException {
+        if (!isAccessible(sourceType) || !isAccessible(targetType)) {
+            throw new UnsupportedPairException("class not accessible", null);
+        }
+        if (targetType.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedPairException("target class is abstract", null, Kind.ERROR);
+        }
+        for (VariableElement targetField : getAllValidFields(targetType)) {
+            generateField(targetField);
+        }
+
+        String source = erasure(sourceType.asType());
+        String target = erasure(targetType.asType());
+        StringBuilder sb = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            sb.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+        sb.append("/**\n * Generated by the beancopy-processor, do not edit.\n */\n");
+        sb.append("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+        sb.append("public final class ").append(simpleName)
+                .append(" implements com.keroz.beancopyutils.copier.TypedCopier<").append(source).append(", ")
+                .append(target).append("> {\n\n");
+        sb.append(constants);
+        if (constants.length() > 0) {
+            sb.append("\n");
+        }
+        sb.append("    @Override\n    public Class<").append(source).append("> getSourceClass() {\n")
+                .append("        return ").append(source).append(".class;\n    }\n\n");
+        sb.append("    @Override\n    public Class<").append(target).append("> getTargetClass() {\n")
+                .append("        return ").append(target).append(".class;\n    }\n\n");
+        sb.append("    @Override\n    public void copy(").append(source).append(" source, ").append(target)
+                .append(" target, ").append(COPY_OPTIONS).append(" options, ")
+                .append("com.keroz.beancopyutils.copier.Copier copier) {\n");
+        sb.append(body);
+        sb.append("    }\n\n}\n");
+        return sb.toString();
+    }
+
+    private void generateField(VariableElement targetField) throws UnsupportedPairException {
+        String fieldName = targetField.getSimpleName().toString();
+        AnnotationMirror aliasFor = getAnnotation(targetField, ALIAS_FOR);
+        String sourceFieldName = aliasFor != null ? (String) getValue(aliasFor, "value") : fieldName;
+
+        // Read
+        String read;
+        TypeMirror readType;
+        ExecutableElement getter = findGetter(sourceType, sourceFieldName);
+        if (getter != null) {
+            checkAccessible(getter);
+            read = "source." + getter.getSimpleName() + "()";
+            readType = getter.getReturnType();
+        } else {
+            VariableElement sourceField = findField(sourceType, sourceFieldName);
+            if (sourceField == null) {
+                // Not matched, same as DefaultCopier
+                return;
+            }
+            checkAccessible(sourceField);
+            read = "source." + sourceField.getSimpleName();
+            readType = sourceField.asType();
+        }
+
+        // Write
+        String write;
+        ExecutableElement setter = findSetter(targetType, fieldName);
+        if (setter != null) {
+            checkAccessible(setter);
+            write = "target." + setter.getSimpleName() + "(result);";
+        } else {
+            checkAccessible(targetField);
+            write = "target." + fieldName + " = result;";
+        }
+
+        TypeMirror fieldType = targetField.asType();
+        String fieldTypeName = erasure(fieldType);
+        String readTypeName = erasure(readType);
+        String value = convert(targetField, fieldType, readType);
+
+        body.append("        // ").append(fieldName).append("\n        {\n");
+        String indent = "            ";
+        AnnotationMirror copyIgnore = getAnnotation(targetField, COPY_IGNORE);
+        String fieldPolicy = "null";
+        if (copyIgnore != null) {
+            fieldPolicy = IGNORE_POLICY + "." + getValue(copyIgnore, "policy");
+            String ignored = generateIgnored(targetField, copyIgnore);
+            if (ignored != null) {
+                body.append(indent).append(ignored);
+                body.append(indent).append("if (!ignored) {\n");
+                indent += "    ";
+            }
+        }
+        body.append(indent).append(readTypeName).append(" value = ").append(read).append(";\n");
+        body.append(indent).append(fieldTypeName).append(" result = ").append(value).append(";\n");
+        body.append(indent).append("if (!").append(SUPPORT).append(".shouldIgnoreNullOrEmpty(result, ")
+                .append(fieldPolicy).append(", options.getIgnorePolicy())) {\n");
+        body.append(indent).append("    ").append(write).append("\n");
+        body.append(indent).append("}\n");
+        if (indent.length() > 12) {
+            body.append("            }\n");
+        }
+        body.append("        }\n");
+    }
+
+    /**
+     * Generates the statements computing {@code boolean ignored}, or returns
+     * {@code null} if the field is never ignored by conditions.
+     */
+    private String generateIgnored(VariableElement targetField, AnnotationMirror copyIgnore)
+            throws UnsupportedPairException {
+        StringBuilder sb = new StringBuilder();
+        List<TypeMirror> exceptionGroups = getClassValues(copyIgnore, "exceptionGroups");
+        List<TypeMirror> when = getClassValues(copyIgnore, "when");
+        List<TypeMirror> except = getClassValues(copyIgnore, "except");
+        String supplierMethodName = (String) getValue(copyIgnore, "supplierMethod");
+
+        String ignored = "false";
+        if (!exceptionGroups.isEmpty()) {
+            String matched = SUPPORT + ".isGroupMatched(" + addClassArray(exceptionGroups) + ", options)";
+            ignored = (Boolean) getValue(copyIgnore, "defaultIgnored") ? "!" + matched : matched;
+        } else if (!except.isEmpty()) {
+            ignored = "!" + SUPPORT + ".hasCondition(" + addClassArray(except) + ", options)";
+        } else if (!when.isEmpty()) {
+            ignored = SUPPORT + ".hasCondition(" + addClassArray(when) + ", options)";
+        }
+        sb.append("boolean ignored = ").append(ignored).append(";\n");
+
+        if (!supplierMethodName.isEmpty()) {
+            TypeElement declaringType = (TypeElement) targetField.getEnclosingElement();
+            ExecutableElement withIgnored = findDeclaredMethod(declaringType, supplierMethodName, "java.lang.Object",
+                    "boolean");
+            ExecutableElement supplierMethod = withIgnored != null ? withIgnored
+                    : findDeclaredMethod(declaringType, supplierMethodName, "java.lang.Object");
+            if (supplierMethod == null) {
+                throw new UnsupportedPairException("no ignore policy supplier method " + supplierMethodName
+                        + "(Object) or " + supplierMethodName + "(Object, boolean)", targetField, Kind.ERROR);
+            }
+            String returnType = supplierMethod.getReturnType().toString();
+            if (!returnType.equals("boolean") && !returnType.equals("java.lang.Boolean")) {
+                throw new UnsupportedPairException(
+                        "expected return type of " + supplierMethodName + " to be boolean, but got: " + returnType,
+                        supplierMethod, Kind.ERROR);
+            }
+            checkAccessible(supplierMethod);
+            if (withIgnored != null) {
+                sb.append("ignored = target.").append(supplierMethodName).append("(source, ignored);\n");
+            } else {
+                sb.append("ignored = ignored || target.").append(supplierMethodName).append("(source);\n");
+            }
+        } else if (ignored.equals("false")) {
+            return null;
+        }
+        return sb.toString().replace("\n", "\n            ").trim() + "\n";
+    }
+
+    private String convert(VariableElement targetField, TypeMirror fieldType, TypeMirror readType)
+            throws UnsupportedPairException {
+        String fieldTypeName = erasure(fieldType);
+        AnnotationMirror converter = getAnnotation(targetField, CONVERTER);
+        if (converter != null) {
+            String constant = addConstant("com.keroz.beancopyutils.converter.Converter",
+                    "com.keroz.beancopyutils.converter.ConverterFactory.getConverter("
+                            + erasure((TypeMirror) getValue(converter, "value")) + ".class)");
+            String castType = fieldType.getKind().isPrimitive()
+                    ? types.boxedClass((javax.lang.model.type.PrimitiveType) fieldType).getQualifiedName().toString()
+                    : fieldTypeName;
+            return "(" + castType + ") " + constant + ".convert(value)";
+        }
+
+        switch (getGeneralType(fieldType)) {
+            case PRIMITIVE: {
+                if (!types.isAssignable(readType, fieldType)) {
+                    throw new UnsupportedPairException(readType + " is not assignable to " + fieldType,
+                            targetField);
+                }
+                return "value";
+            }
+            case ARRAY: {
+                if (readType.getKind() != TypeKind.ARRAY) {
+                    throw new UnsupportedPairException("source of " + targetField.getSimpleName()
+                            + " is not an array", targetField);
+                }
+                TypeMirror componentType = ((ArrayType) fieldType).getComponentType();
+                if (isNestedGeneric(componentType)) {
+                    throw new UnsupportedPairException("component type of " + targetField.getSimpleName()
+                            + " is parameterized", targetField);
+                }
+                return "value == null ? null : (" + fieldTypeName + ") copier.copyArray(value, "
+                        + erasure(componentType) + ".class, options)";
+            }
+            case COLLECTION: {
+                if (getGeneralType(readType) != GeneralType.COLLECTION) {
+                    throw new UnsupportedPairException("source of " + targetField.getSimpleName()
+                            + " is not a collection", targetField);
+                }
+                List<? extends TypeMirror> typeArguments = ((DeclaredType) fieldType).getTypeArguments();
+                if (typeArguments.size() != 1 || typeArguments.get(0).getKind() != TypeKind.DECLARED) {
+                    throw new UnsupportedPairException("component type of " + targetField.getSimpleName()
+                            + " can not be determined", targetField);
+                }
+                if (isNestedGeneric(typeArguments.get(0))) {
+                    throw new UnsupportedPairException("component type of " + targetField.getSimpleName()
+                            + " is parameterized", targetField);
+                }
+                return "value == null ? null : (" + fieldTypeName + ") copier.copyCollection((java.util.Collection) "
+                        + "value, " + erasure(typeArguments.get(0)) + ".class, " + getSupplier(targetField, fieldType)
+                        + ", options)";
+            }
+            case MAP: {
+                if (getGeneralType(readType) != GeneralType.MAP) {
+                    throw new UnsupportedPairException("source of " + targetField.getSimpleName()
+                            + " is not a map", targetField);
+                }
+                List<? extends TypeMirror> typeArguments = ((DeclaredType) fieldType).getTypeArguments();
+                if (typeArguments.size() != 2 || typeArguments.get(0).getKind() != TypeKind.DECLARED
+                        || typeArguments.get(1).getKind() != TypeKind.DECLARED) {
+                    throw new UnsupportedPairException("key or value type of " + targetField.getSimpleName()
+                            + " can not be determined", targetField);
+                }
+                if (isNestedGeneric(typeArguments.get(0)) || isNestedGeneric(typeArguments.get(1))) {
+                    throw new UnsupportedPairException("key or value type of " + targetField.getSimpleName()
+                            + " is parameterized", targetField);
+                }
+                return "value == null ? null : (" + fieldTypeName + ") copier.copyMap((java.util.Map) value, "
+                        + erasure(typeArguments.get(0)) + ".class, " + erasure(typeArguments.get(1)) + ".class, "
+                        + getSupplier(fieldType) + ", options)";
+            }
+            default: {
+                return "value == null ? null : (" + fieldTypeName + ") copier.copy(value, " + fieldTypeName
+                        + ".class, options)";
+            }
+        }
+    }
+
+    /**
+     * Checks if the elements of a collection or an array, or the keys or values
+     * of a map, are of a parameterized type which is copied, e.g. the lists of a
+     * {@code List<List<Dto>>}. Nested copies of generated code only take the
+     * class of the elements, losing their type arguments, so such fields are
+     * left to the runtime copier, which resolves them.
+     */
+    private boolean isNestedGeneric(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()
+                && getGeneralType(type) != GeneralType.PRIMITIVE;
+    }
+
+    private String getSupplier(VariableElement targetField, TypeMirror fieldType) {
+        AnnotationMirror toCollection = getAnnotation(targetField, TO_COLLECTION);
+        return getSupplier(toCollection != null ? (TypeMirror) getValue(toCollection, "value") : fieldType);
+    }
+
+    private String getSupplier(TypeMirror collectionType) {
+        TypeElement collectionElement = (TypeElement) types.asElement(collectionType);
+        if (collectionElement.getKind() != ElementKind.CLASS
+                || collectionElement.getModifiers().contains(Modifier.ABSTRACT) || !isAccessible(collectionElement)) {
+            return "null";
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(collectionElement.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && isAccessible(constructor)) {
+                return "(java.util.function.Supplier) " + erasure(collectionType) + "::new";
+            }
+        }
+        return "null";
+    }
+
+    private enum GeneralType {
+        PRIMITIVE, ARRAY, COLLECTION, MAP, OBJECT
+    }
+
+    /**
+     * Same as {@code ReflectionUtils.getGeneralType} at runtime.
+     */
+    private GeneralType getGeneralType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return GeneralType.PRIMITIVE;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return GeneralType.ARRAY;
+        }
+        TypeMirror erased = types.erasure(type);
+        TypeElement element = (TypeElement) types.asElement(erased);
+        if (element == null) {
+            return GeneralType.OBJECT;
+        }
+        String name = element.getQualifiedName().toString();
+        if (element.getKind() == ElementKind.ENUM || name.equals("java.lang.Enum") || name.equals("java.lang.String")
+                || name.equals("java.util.Date")
+                || isSubtype(erased, "java.time.temporal.Temporal") || isImmutable(element, erased)) {
+            return GeneralType.PRIMITIVE;
+        }
+        try {
+            types.unboxedType(erased);
+            return GeneralType.PRIMITIVE;
+        } catch (IllegalArgumentException notWrapper) {
+            // Not a wrapper class
+        }
+        if (isSubtype(erased, "java.util.Collection")) {
+            return GeneralType.COLLECTION;
+        }
+        if (isSubtype(erased, "java.util.Map")) {
+            return GeneralType.MAP;
+        }
+        return GeneralType.OBJECT;
+    }
+
+    /**
+     * Same as {@code ImmutableTypes} at runtime, except for the types which are
+     * registered at runtime.
+     */
+    private boolean isImmutable(TypeElement element, TypeMirror erased) {
+        if (element.getKind().name().equals("RECORD")) {
+            return true;
+        }
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (IMMUTABLE_ANNOTATIONS.contains(
+                    ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        if (element.getKind().isInterface()) {
+            return IMMUTABLE_TYPES.contains(element.getQualifiedName().toString());
+        }
+        for (String immutableType : IMMUTABLE_TYPES) {
+            if (isSubtype(erased, immutableType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSubtype(TypeMirror type, String superTypeName) {
+        TypeElement superType = elements.getTypeElement(superTypeName);
+        return superType != null && types.isSubtype(type, types.erasure(superType.asType()));
+    }
+
+    private List<VariableElement> getAllValidFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement t = type; t != null
+                && !t.getQualifiedName().contentEquals("java.lang.Object"); t = getSuperclass(t)) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+    }
+
+    private VariableElement findField(TypeElement type, String name) {
+        for (VariableElement field : getAllValidFields(type)) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findGetter(TypeElement type, String fieldName) {
+        String suffix = getMethodNameSuffix(fieldName);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals("is" + suffix) || name.equals("get" + suffix)) && method.getParameters().isEmpty()
+                    && method.getReturnType().getKind() != TypeKind.VOID && isInstanceNonPrivate(method)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(TypeElement type, String fieldName) {
+        String name = "set" + getMethodNameSuffix(fieldName);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1
+                    && isInstanceNonPrivate(method)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findDeclaredMethod(TypeElement type, String name, String... parameterTypes) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(name)
+                    || method.getParameters().size() != parameterTypes.length) {
+                continue;
+            }
+            boolean matched = true;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                matched &= erasure(method.getParameters().get(i).asType()).equals(parameterTypes[i]);
+            }
+            if (matched) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean isInstanceNonPrivate(Element element) {
+        return !element.getModifiers().contains(Modifier.STATIC) && !element.getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    private void checkAccessible(Element element) throws UnsupportedPairException {
+        if (!isAccessible(element)) {
+            throw new UnsupportedPairException(element.getEnclosingElement() + "." + element + " is not accessible",
+                    element);
+        }
+    }
+
+    /**
+     * Checks if the given element is accessible from the generated class, which
+     * is in the same package as the target class.
+     */
+    private boolean isAccessible(Element element) {
+        for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(e).equals(packageElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String addClassArray(List<TypeMirror> classes) {
+        StringBuilder sb = new StringBuilder("{ ");
+        for (int i = 0; i < classes.size(); i++) {
+            sb.append(i > 0 ? ", " : "").append(erasure(classes.get(i))).append(".class");
+        }
+        return addConstant("Class<?>[]", sb.append(" }").toString());
+    }
+
+    private String addConstant(String type, String initializer) {
+        String name = "CONSTANT_" + constantCount++;
+        constants.append("    private static final ").append(type).append(" ").append(name).append(" = ")
+                .append(initializer).append(";\n");
+        return name;
+    }
+
+    private String erasure(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private static String getMethodNameSuffix(String fieldName) {
+        return Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+
+    private static String flatName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name = e.getSimpleName() + "_" + name;
+        }
+        return name;
+    }
+
+    static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                Object value = entry.getValue().getValue();
+                return value instanceof VariableElement ? ((VariableElement) value).getSimpleName().toString()
+                        : value;
+            }
+        }
+        return null;
+    }
+
+    static List<TypeMirror> getClassValues(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                List<TypeMirror> classes = new ArrayList<>();
+                for (Object value : (List<?>) entry.getValue().getValue()) {
+                    classes.add((TypeMirror) ((AnnotationValue) value).getValue());
+                }
+                return classes;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.keroz.beancopyutils.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.keroz.beancopyutils.processor.CopierGenerator.UnsupportedPairException;
+
+/**
+ * An annotation processor which generates a
+ * {@link com.keroz.beancopyutils.copier.TypedCopier TypedCopier} for each
+ * source class listed in {@link com.keroz.beancopyutils.annotation.CopyFrom
+ * CopyFrom} on a target class, and registers them as services so that they are
+ * picked up at runtime.
+ */
+@SupportedAnnotationTypes(CopierGenerator.COPY_FROM)
+public class CopierProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/com.keroz.beancopyutils.copier.TypedCopier";
+
+    private final Set<String> generatedCopiers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement copyFrom = processingEnv.getElementUtils().getTypeElement(CopierGenerator.COPY_FROM);
+        if (copyFrom != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(copyFrom)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    continue;
+                }
+                TypeElement targetType = (TypeElement) element;
+                AnnotationMirror annotation = CopierGenerator.getAnnotation(targetType, CopierGenerator.COPY_FROM);
+                for (TypeMirror sourceType : CopierGenerator.getClassValues(annotation, "value")) {
+                    generate(targetType, (TypeElement) ((DeclaredType) sourceType).asElement());
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generatedCopiers.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement targetType, TypeElement sourceType) {
+        CopierGenerator generator = new CopierGenerator(processingEnv, sourceType, targetType);
+        try {
+            String source = generator.generate();
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(generator.getQualifiedName(),
+                    targetType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            generatedCopiers.add(generator.getQualifiedName());
+        } catch (UnsupportedPairException e) {
+            processingEnv.getMessager().printMessage(e.getKind(),
+                    "Can not generate copier from " + sourceType.getQualifiedName() + ": " + e.getMessage()
+                            + (e.getKind() == Kind.ERROR ? "" : ", it will be copied at runtime instead"),
+                    e.getElement() != null ? e.getElement() : targetType);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Failed to write copier " + generator.getQualifiedName() + ": " + e.getMessage(), targetType);
+        }
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String copier : generatedCopiers) {
+                    writer.write(copier);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.keroz.beancopyutils.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.TypedCopier;
+import com.keroz.beancopyutils.reflection.ImmutableTypes;
+
+import org.junit.jupiter.api.Test;
+
+public class CopierProcessorTest {
+
+    private static final String SOURCE = String.join("\n",
+            "package sample;",
+            "public class Source {",
+            "    public int id = 1;",
+            "    private long timestamp = 1603941172886L;",
+            "    public java.util.List<Nested> nestedList = new java.util.ArrayList<>(",
+            "            java.util.Arrays.asList(new Nested()));",
+            "    public Nested nested = new Nested();",
+            "    public java.util.Map<String, Nested> nestedMap = new java.util.HashMap<>(",
+            "            java.util.Collections.singletonMap(\"key\", new Nested()));",
+            "    public String name = \"source\";",
+            "    public java.math.BigDecimal amount = new java.math.BigDecimal(\"12.50\");",
+            "    public int[] numbers = { 1, 2, 3 };",
+            "    public long getTimestamp() { return timestamp; }",
+            "    public static class Nested {",
+            "        public int value = 42;",
+            "    }",
+            "}");
+
+    private static final String TARGET = String.join("\n",
+            "package sample;",
+            "import com.keroz.beancopyutils.annotation.*;",
+            "@CopyFrom(Source.class)",
+            "public class Target {",
+            "    public interface IncludingName {}",
+            "    public int id;",
+            "    @AliasFor(\"timestamp\")",
+            "    @Converter(TimestampToDateConverter.class)",
+            "    public java.util.Date date;",
+            "    @ToCollection(java.util.LinkedList.class)",
+            "    public java.util.List<Source.Nested> nestedList;",
+            "    private Source.Nested nested;",
+            "    public java.util.TreeMap<String, Source.Nested> nestedMap;",
+            "    @CopyIgnore(exceptionGroups = IncludingName.class)",
+            "    public String name;",
+            "    public java.math.BigDecimal amount;",
+            "    @CopyIgnore(supplierMethod = \"ignoreNumbers\")",
+            "    public int[] numbers;",
+            "    public Source.Nested getNested() { return nested; }",
+            "    public void setNested(Source.Nested nested) { this.nested = nested; }",
+            "    boolean ignoreNumbers(Object source) { return false; }",
+            "}");
+
+    private static final String CONVERTER = String.join("\n",
+            "package sample;",
+            "public class TimestampToDateConverter",
+            "        implements com.keroz.beancopyutils.converter.Converter<Long, java.util.Date> {",
+            "    public java.util.Date convert(Long source) { return new java.util.Date(source); }",
+            "}");
+
+    private static final String PRIVATE_TARGET = String.join("\n",
+            "package sample;",
+            "@com.keroz.beancopyutils.annotation.CopyFrom(Source.class)",
+            "public class PrivateTarget {",
+            "    private int id;",
+            "}");
+
+    private static final String OTHER_SOURCE = String.join("\n",
+            "package sample.other;",
+            "public class Source {",
+            "    public int id = 2;",
+            "}");
+
+    private static final String MULTI_SOURCE_TARGET = String.join("\n",
+            "package sample;",
+            "@com.keroz.beancopyutils.annotation.CopyFrom({ Source.class, sample.other.Source.class })",
+            "public class MultiSourceTarget {",
+            "    public int id;",
+            "}");
+
+    private static final String NESTED_GENERIC_SOURCE = String.join("\n",
+            "package sample;",
+            "public class NestedGenericSource {",
+            "    public java.util.List<java.util.List<Source.Nested>> nestedLists = java.util.Arrays.asList(",
+            "            java.util.Arrays.asList(new Source.Nested()));",
+            "    public java.util.Map<String, java.util.List<Source.Nested>> nestedListMap = new java.util.HashMap<>(",
+            "            java.util.Collections.singletonMap(\"key\", java.util.Arrays.asList(new Source.Nested())));",
+            "}");
+
+    private static final String NESTED_GENERIC_TARGET = String.join("\n",
+            "package sample;",
+            "@com.keroz.beancopyutils.annotation.CopyFrom(NestedGenericSource.class)",
+            "public class NestedGenericTarget {",
+            "    public java.util.List<java.util.List<Source.Nested>> nestedLists;",
+            "    public java.util.Map<String, java.util.List<Source.Nested>> nestedListMap;",
+            "}");
+
+    @Test
+    public void testNestedGenericsCopiedAtRuntime() throws Exception {
+        Path dir = Files.createTempDirectory("beancopy-processor");
+        StringWriter output = compile(dir, SOURCE, NESTED_GENERIC_SOURCE, NESTED_GENERIC_TARGET);
+        assertTrue(output.toString().contains("component type of nestedLists is parameterized"),
+                output.toString());
+        assertFalse(Files.exists(dir.resolve("sample/NestedGenericTargetFromNestedGenericSourceCopier.class")));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            Class<?> sourceClass = classLoader.loadClass("sample.NestedGenericSource");
+            Class<?> targetClass = classLoader.loadClass("sample.NestedGenericTarget");
+            Class<?> nestedClass = classLoader.loadClass("sample.Source$Nested");
+            Object target = new DefaultCopier().copy(sourceClass.newInstance(), targetClass, null, null);
+            List<?> nestedLists = (List<?>) targetClass.getField("nestedLists").get(target);
+            assertEquals(nestedClass, ((List<?>) nestedLists.get(0)).get(0).getClass());
+            java.util.Map<?, ?> nestedListMap = (java.util.Map<?, ?>) targetClass.getField("nestedListMap")
+                    .get(target);
+            assertEquals(nestedClass, ((List<?>) nestedListMap.get("key")).get(0).getClass());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImmutableTypesInSync() throws Exception {
+        Field registered = ImmutableTypes.class.getDeclaredField("REGISTERED");
+        registered.setAccessible(true);
+        Set<String> names = new TreeSet<>();
+        for (Class<?> type : (Set<Class<?>>) registered.get(null)) {
+            names.add(type.getName());
+        }
+        assertEquals(names, new TreeSet<>(CopierGenerator.IMMUTABLE_TYPES));
+    }
+
+    @Test
+    public void testGenerateCopiersOfSameNamedSources() throws Exception {
+        Path dir = Files.createTempDirectory("beancopy-processor");
+        compile(dir, SOURCE, OTHER_SOURCE, MULTI_SOURCE_TARGET);
+        assertTrue(Files.exists(dir.resolve("sample/MultiSourceTargetFromSourceCopier.class")));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            Class<?> targetClass = classLoader.loadClass("sample.MultiSourceTarget");
+            Copier copier = new DefaultCopier();
+            for (String sourceName : new String[] { "sample.Source", "sample.other.Source" }) {
+                Class<?> sourceClass = classLoader.loadClass(sourceName);
+                Object target = copier.copy(sourceClass.newInstance(), targetClass, null, null);
+                assertEquals(sourceClass.getField("id").get(sourceClass.newInstance()),
+                        targetClass.getField("id").get(target));
+            }
+            int found = 0;
+            for (TypedCopier<?, ?> typedCopier : ServiceLoader.load(TypedCopier.class, classLoader)) {
+                if (typedCopier.getTargetClass() == targetClass) {
+                    found++;
+                }
+            }
+            assertEquals(2, found);
+        }
+    }
+
+    @Test
+    public void testGenerateCopier() throws Exception {
+        Path dir = Files.createTempDirectory("beancopy-processor");
+        StringWriter output = compile(dir, SOURCE, TARGET, CONVERTER, PRIVATE_TARGET);
+        assertTrue(output.toString().contains("PrivateTarget"), output.toString());
+        assertTrue(Files.exists(dir.resolve("sample/TargetFromSourceCopier.class")));
+        assertFalse(Files.exists(dir.resolve("sample/PrivateTargetFromSourceCopier.class")));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            Iterator<TypedCopier> copiers = ServiceLoader.load(TypedCopier.class, classLoader).iterator();
+            assertTrue(copiers.hasNext());
+            assertEquals("sample.TargetFromSourceCopier", copiers.next().getClass().getName());
+
+            Class<?> sourceClass = classLoader.loadClass("sample.Source");
+            Class<?> targetClass = classLoader.loadClass("sample.Target");
+            Copier copier = new DefaultCopier();
+            Object target = copier.copy(sourceClass.newInstance(), targetClass, null, null);
+
+            assertEquals(1, targetClass.getField("id").get(target));
+            assertEquals(new java.util.Date(1603941172886L), targetClass.getField("date").get(target));
+            assertEquals(java.util.LinkedList.class, targetClass.getField("nestedList").get(target).getClass());
+            assertNotNull(targetClass.getMethod("getNested").invoke(target));
+            java.util.Map<?, ?> nestedMap = (java.util.Map<?, ?>) targetClass.getField("nestedMap").get(target);
+            assertEquals(java.util.TreeMap.class, nestedMap.getClass());
+            assertNotNull(nestedMap.get("key"));
+            assertNull(targetClass.getField("name").get(target));
+            assertEquals(new java.math.BigDecimal("12.50"), targetClass.getField("amount").get(target));
+            assertTrue(Arrays.equals(new int[] { 1, 2, 3 }, (int[]) targetClass.getField("numbers").get(target)));
+
+            Class<?> includingName = classLoader.loadClass("sample.Target$IncludingName");
+            target = copier.copy(sourceClass.newInstance(), targetClass, null, new Class<?>[] { includingName });
+            Field name = targetClass.getField("name");
+            assertEquals("source", name.get(target));
+        }
+    }
+
+    private StringWriter compile(Path dir, String... sources) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String source : sources) {
+            String packageName = source.substring(8, source.indexOf(';'));
+            String className = source.substring(source.indexOf("public class ") + 13).split("\\s")[0];
+            Path packageDir = dir.resolve(packageName.replace('.', '/'));
+            Files.createDirectories(packageDir);
+            Path file = packageDir.resolve(className + ".java");
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter output = new StringWriter();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = fileManager
+                    .getJavaFileObjectsFromFiles(files.stream().map(Path::toFile)::iterator);
+            List<String> options = Arrays.asList("-d", dir.toString(), "-s", dir.toString(), "-classpath",
+                    System.getProperty("java.class.path"), "-processor", CopierProcessor.class.getName());
+            Boolean success = compiler.getTask(output, fileManager, null, options, null, units).call();
+            assertTrue(success, output.toString());
+        }
+        return output;
+    }
+
+}
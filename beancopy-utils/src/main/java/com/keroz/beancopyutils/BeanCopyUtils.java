@@ -0,0 +1,420 @@
+package com.keroz.beancopyutils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.copier.ClassPair;
+import com.keroz.beancopyutils.copier.ClassPairs;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.LazyCopyList;
+import com.keroz.beancopyutils.copier.Mapper;
+import com.keroz.beancopyutils.copier.ParallelOptions;
+
+/**
+ *
+ *
+ */
+public class BeanCopyUtils {
+
+    private static volatile Copier copier = new DefaultCopier();
+
+    /**
+     * Returns the copier currently used.
+     *
+     * @return the copier
+     */
+    public static Copier getCopier() {
+        return copier;
+    }
+
+    /**
+     * Sets the copier to use, e.g. a {@link com.keroz.beancopyutils.copier.GeneratedCopier
+     * GeneratedCopier}. Defaults to a {@link DefaultCopier}.
+     *
+     * @param copier the copier to use
+     */
+    public static void setCopier(Copier copier) {
+        if (copier == null) {
+            throw new IllegalArgumentException("Copier is null");
+        }
+        BeanCopyUtils.copier = copier;
+    }
+
+    /**
+     * Prepares copying from the source class to the target class with the
+     * current copier, e.g. at startup, see {@link Copier#prepare(Class, Class)}.
+     */
+    public static void prepare(Class<?> sourceClass, Class<?> targetClass) {
+        copier.prepare(sourceClass, targetClass);
+    }
+
+    /**
+     * Prepares the pairs in parallel in the common {@link ForkJoinPool}, e.g.
+     * the pairs recorded in a previous run, see {@link ClassPairs}.
+     */
+    public static void prepareAll(Collection<ClassPair> pairs) {
+        prepareAll(pairs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares the pairs in parallel on the executor, waiting for all of them.
+     * A pair nested in another one, see {@link Copier#getNestedPairs}, is
+     * prepared along with it only, rather than racing with it on its own.
+     *
+     * @param pairs    the pairs
+     * @param executor the executor to prepare on
+     */
+    public static void prepareAll(Collection<ClassPair> pairs, Executor executor) {
+        Copier current = copier;
+        List<ClassPair> outerPairs = getOuterPairs(pairs, current);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(outerPairs.size());
+        for (ClassPair pair : outerPairs) {
+            futures.add(CompletableFuture.runAsync(() -> current.prepare(pair.getSourceClass(), pair.getTargetClass()),
+                    executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the pairs which no other pair is prepared along with. Of pairs
+     * nested in each other, the first one is kept.
+     */
+    private static List<ClassPair> getOuterPairs(Collection<ClassPair> pairs, Copier copier) {
+        List<ClassPair> distinctPairs = new ArrayList<>(new LinkedHashSet<>(pairs));
+        List<Set<ClassPair>> nestedPairs = new ArrayList<>(distinctPairs.size());
+        for (ClassPair pair : distinctPairs) {
+            nestedPairs.add(copier.getNestedPairs(pair.getSourceClass(), pair.getTargetClass()));
+        }
+        List<ClassPair> outerPairs = new ArrayList<>();
+        for (int i = 0; i < distinctPairs.size(); i++) {
+            boolean outer = true;
+            for (int j = 0; j < distinctPairs.size() && outer; j++) {
+                outer = j == i || !nestedPairs.get(j).contains(distinctPairs.get(i))
+                        || j > i && nestedPairs.get(i).contains(distinctPairs.get(j));
+            }
+            if (outer) {
+                outerPairs.add(distinctPairs.get(i));
+            }
+        }
+        return outerPairs;
+    }
+
+    /**
+     * Starts or stops recording the pairs copied by the current copier, see
+     * {@link Copier#setRecording(boolean)}.
+     */
+    public static void setRecording(boolean recording) {
+        copier.setRecording(recording);
+    }
+
+    /**
+     * Returns the pairs recorded by the current copier, to be written with
+     * {@link ClassPairs#write} and prepared at the next startup.
+     */
+    public static Set<ClassPair> getRecordedPairs() {
+        return copier.getRecordedPairs();
+    }
+
+    public static <Target, Source> void copy(Source source, Target target) {
+        copy(source, target, null, null);
+    }
+
+    public static <Target, Source> void copy(Source source, Target target, IgnorePolicy ignorePolicy) {
+        copy(source, target, ignorePolicy, null);
+    }
+
+    public static <Target, Source> void copy(Source source, Target target, Class<?>[] ignoreConditions) {
+        copy(source, target, null, ignoreConditions);
+    }
+
+    public static <Target, Source> void copy(Source source, Target target, IgnorePolicy ignorePolicy,
+            Class<?>[] ignoreConditions) {
+        doCopy(source, target, CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    /**
+     * Copies with reusable options, see {@link CopyOptions}.
+     */
+    public static <Target, Source> void copy(Source source, Target target, CopyOptions options) {
+        doCopy(source, target, options);
+    }
+
+    public static <Target, Source> Target copy(Source source, Class<Target> tarClass) {
+        return copy(source, tarClass, null, null);
+    }
+
+    public static <Target, Source> Target copy(Source source, Class<Target> tarClass, IgnorePolicy ignorePolicy) {
+        return copy(source, tarClass, ignorePolicy, null);
+    }
+
+    public static <Target, Source> Target copy(Source source, Class<Target> tarClass, Class<?>[] ignoreConditions) {
+        return copy(source, tarClass, null, ignoreConditions);
+    }
+
+    public static <Target, Source> Target copy(Source source, Class<Target> tarClass, IgnorePolicy ignorePolicy,
+            Class<?>[] ignoreConditions) {
+        return doCopy(source, tarClass, CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    /**
+     * Copies with reusable options, see {@link CopyOptions}.
+     */
+    public static <Target, Source> Target copy(Source source, Class<Target> tarClass, CopyOptions options) {
+        return doCopy(source, tarClass, options);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass) {
+        return doCopyCollection(sourceCollection, targetComponentClass, null, null, null);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Class<?>[] ignoreConditions) {
+        return doCopyCollection(sourceCollection, targetComponentClass, null, null, ignoreConditions);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            IgnorePolicy ignorePolicy) {
+        return doCopyCollection(sourceCollection, targetComponentClass, null, ignorePolicy, null);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            IgnorePolicy ignorePolicy, Class<?>[] ignoreConditions) {
+        return doCopyCollection(sourceCollection, targetComponentClass, null, ignorePolicy, ignoreConditions);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier) {
+        return doCopyCollection(sourceCollection, targetComponentClass, supplier, null, null);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier,
+            Class<?>[] ignoreConditions) {
+        return doCopyCollection(sourceCollection, targetComponentClass, supplier, null, ignoreConditions);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier,
+            IgnorePolicy ignorePolicy) {
+        return doCopyCollection(sourceCollection, targetComponentClass, supplier, ignorePolicy, null);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, IgnorePolicy ignorePolicy, Class<?>[] ignoreConditions) {
+        return (TargetCollection) doCopyCollection(sourceCollection, targetComponentClass, supplier, ignorePolicy,
+                ignoreConditions);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass, CopyOptions options) {
+        return doCopyCollection(sourceCollection, targetComponentClass, null, options);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options) {
+        return doCopyCollection(sourceCollection, targetComponentClass, supplier, options);
+    }
+
+    /**
+     * Returns a mapper copying instances of the source class to the target class,
+     * with the metadata of the pair resolved once. The mapper is bound to the
+     * current copier and may be kept in a {@code static final} field.
+     */
+    public static <Source, Target> Mapper<Source, Target> mapper(Class<Source> sourceClass,
+            Class<Target> targetClass) {
+        return mapper(sourceClass, targetClass, null);
+    }
+
+    public static <Source, Target> Mapper<Source, Target> mapper(Class<Source> sourceClass,
+            Class<Target> targetClass, CopyOptions options) {
+        return copier.mapper(sourceClass, targetClass, options != null ? options : CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Copies a map into a map of the same class, copying its keys and values to
+     * the given classes. Immutable keys and values are shared.
+     */
+    public static <SourceKey, SourceValue, TargetKey, TargetValue, TargetMap extends Map<TargetKey, TargetValue>> TargetMap copyMap(
+            Map<SourceKey, SourceValue> sourceMap, Class<TargetKey> targetKeyClass,
+            Class<TargetValue> targetValueClass) {
+        return copyMap(sourceMap, targetKeyClass, targetValueClass, null, null);
+    }
+
+    public static <SourceKey, SourceValue, TargetKey, TargetValue, TargetMap extends Map<TargetKey, TargetValue>> TargetMap copyMap(
+            Map<SourceKey, SourceValue> sourceMap, Class<TargetKey> targetKeyClass,
+            Class<TargetValue> targetValueClass, Supplier<TargetMap> supplier, CopyOptions options) {
+        return copier.copyMap(sourceMap, targetKeyClass, targetValueClass, supplier,
+                options != null ? options : CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Returns a list view copying each element of the source list the first time
+     * it's read, so that elements which are never read are never copied.
+     *
+     * @see LazyCopyList
+     */
+    public static <Source, Target> List<Target> copyCollectionLazy(List<Source> sourceList,
+            Class<Target> targetClass) {
+        return copyCollectionLazy(sourceList, targetClass, null);
+    }
+
+    public static <Source, Target> List<Target> copyCollectionLazy(List<Source> sourceList, Class<Target> targetClass,
+            CopyOptions options) {
+        if (sourceList == null) {
+            return null;
+        }
+        return new LazyCopyList<>(sourceList,
+                copier.<Source, Target>copying(targetClass, options != null ? options : CopyOptions.DEFAULT));
+    }
+
+    /**
+     * Returns a stream copying each element of the source stream as it's
+     * consumed, so that unbounded sources can be copied in constant memory.
+     */
+    public static <Source, Target> Stream<Target> copyStream(Stream<Source> sourceStream, Class<Target> targetClass) {
+        return copyStream(sourceStream, targetClass, null);
+    }
+
+    public static <Source, Target> Stream<Target> copyStream(Stream<Source> sourceStream, Class<Target> targetClass,
+            CopyOptions options) {
+        if (sourceStream == null) {
+            return null;
+        }
+        return sourceStream.map(copier.copying(targetClass, options != null ? options : CopyOptions.DEFAULT));
+    }
+
+    /**
+     * Returns an iterator copying each element of the source iterator as it's
+     * pulled, so that unbounded sources can be copied in constant memory.
+     */
+    public static <Source, Target> Iterator<Target> copyIterator(Iterator<Source> sourceIterator,
+            Class<Target> targetClass) {
+        return copyIterator(sourceIterator, targetClass, null);
+    }
+
+    public static <Source, Target> Iterator<Target> copyIterator(Iterator<Source> sourceIterator,
+            Class<Target> targetClass, CopyOptions options) {
+        if (sourceIterator == null) {
+            return null;
+        }
+        Function<Source, Target> copying = copier.copying(targetClass,
+                options != null ? options : CopyOptions.DEFAULT);
+        return new Iterator<Target>() {
+
+            @Override
+            public boolean hasNext() {
+                return sourceIterator.hasNext();
+            }
+
+            @Override
+            public Target next() {
+                return copying.apply(sourceIterator.next());
+            }
+
+            @Override
+            public void remove() {
+                sourceIterator.remove();
+            }
+
+        };
+    }
+
+    /**
+     * Copies a large collection in parallel, see {@link ParallelOptions}. The
+     * encounter order of the source is preserved.
+     */
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollectionParallel(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass) {
+        return copyCollectionParallel(sourceCollection, targetComponentClass, null, null, null);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollectionParallel(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            ParallelOptions parallelOptions) {
+        return copyCollectionParallel(sourceCollection, targetComponentClass, null, null, parallelOptions);
+    }
+
+    public static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollectionParallel(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options, ParallelOptions parallelOptions) {
+        if (sourceCollection == null) {
+            return null;
+        }
+        return copier.copyCollectionParallel(sourceCollection, targetComponentClass, supplier,
+                options != null ? options : CopyOptions.DEFAULT,
+                parallelOptions != null ? parallelOptions : ParallelOptions.DEFAULT);
+    }
+
+    private static <Target, Source> Target doCopy(Source source, Target target, CopyOptions options) {
+        if (source == null) {
+            return null;
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target object is null");
+        }
+        return copier.copy(source, target, options != null ? options : CopyOptions.DEFAULT);
+    }
+
+    private static <Target, Source> Target doCopy(Source source, Class<Target> targetClass, CopyOptions options) {
+        if (source == null) {
+            return null;
+        }
+        if (targetClass == null) {
+            throw new IllegalArgumentException("Target class is null");
+        }
+        return copier.copy(source, targetClass, options != null ? options : CopyOptions.DEFAULT);
+    }
+
+    private static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection doCopyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, IgnorePolicy ignorePolicy, Class<?>[] ignoreConditions) {
+        return doCopyCollection(sourceCollection, targetComponentClass, supplier,
+                CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    private static <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection doCopyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options) {
+        if (sourceCollection == null) {
+            return null;
+        }
+        return copier.copyCollection(sourceCollection, targetComponentClass, supplier,
+                options != null ? options : CopyOptions.DEFAULT);
+
+    }
+}
@@ -0,0 +1,29 @@
+package com.keroz.beancopyutils.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the annotated <strong>target</strong> class is copied from the
+ * given source classes, so that a copier can be generated for each pair at
+ * compile time by the {@code beancopy-processor} annotation processor.
+ * <p>
+ * Other annotations such as {@link AliasFor}, {@link Converter},
+ * {@link CopyIgnore} and {@link ToCollection} on the fields of the target class
+ * are honored by the generated copiers. If a copier can not be generated for a
+ * pair, e.g. because a field is not accessible, the pair is copied at runtime
+ * as usual.
+ *
+ * @see com.keroz.beancopyutils.copier.TypedCopier
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface CopyFrom {
+
+    Class<?>[] value();
+
+}
@@ -0,0 +1,22 @@
+package com.keroz.beancopyutils.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that instances of the annotated class are immutable, so that values
+ * of it are shared with the target instead of being copied.
+ * <p>
+ * Classes which can't be annotated can be registered with
+ * {@link com.keroz.beancopyutils.reflection.ImmutableTypes#register(Class)
+ * ImmutableTypes.register}.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Immutable {
+
+}
@@ -0,0 +1,33 @@
+package com.keroz.beancopyutils.cache;
+
+import lombok.Data;
+
+/**
+ * A snapshot of the statistics of a {@link ClassCache}.
+ */
+@Data
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of requests which were hits, or {@code 1.0} if there was
+     * no request yet.
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hitCount + other.hitCount, missCount + other.missCount,
+                evictionCount + other.evictionCount);
+    }
+
+}
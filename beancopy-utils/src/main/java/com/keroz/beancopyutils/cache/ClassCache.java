@@ -0,0 +1,233 @@
+package com.keroz.beancopyutils.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of values computed per class.
+ * <p>
+ * Values are attached to the classes themselves through a {@link ClassValue},
+ * so the cache never holds a class strongly and does not keep class loaders
+ * alive after a redeploy. The cache only tracks resident values weakly, in
+ * order to evict them with a CLOCK (second chance) policy, which approximates
+ * LRU without any lock on the read path, once there are more than
+ * {@code maximumSize} of them.
+ * <p>
+ * A value is computed once: threads missing the same class at the same time
+ * wait for the first one to compute it, holding the lock of that class's slot
+ * only. Reads of a present value take no lock.
+ * <p>
+ * Like any {@link ClassValue}, values stay attached to their classes until
+ * they are evicted, invalidated or the classes are unloaded, so a cache is
+ * meant to live as long as the copier owning it. A value is attached to a
+ * class, so whatever it references lives as long as that class does, e.g. a
+ * value referencing classes of a child class loader, attached to a class of a
+ * parent class loader, keeps the child loader alive until it's evicted.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class ClassCache<V> {
+
+    private final int maximumSize;
+    private final Function<Class<?>, ? extends V> loader;
+    private final StatsCounter statsCounter;
+    private final ClassValue<Slot<V>> slots = new ClassValue<Slot<V>>() {
+
+        @Override
+        protected Slot<V> computeValue(Class<?> type) {
+            return new Slot<>();
+        }
+
+    };
+    /**
+     * Resident slots, in the order of the clock hand.
+     */
+    private final ConcurrentLinkedQueue<SlotReference<V>> residents = new ConcurrentLinkedQueue<>();
+    private final ReferenceQueue<Slot<V>> collectedSlots = new ReferenceQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ClassCache(int maximumSize, Function<Class<?>, ? extends V> loader) {
+        this(maximumSize, loader, new StatsCounter());
+    }
+
+    /**
+     * @param maximumSize  the maximum number of values to keep
+     * @param loader       computes the value of a class on a miss
+     * @param statsCounter the counter to record statistics to, which may be
+     *                     shared among several caches
+     */
+    public ClassCache(int maximumSize, Function<Class<?>, ? extends V> loader, StatsCounter statsCounter) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        if (loader == null) {
+            throw new IllegalArgumentException("Loader is null");
+        }
+        this.maximumSize = maximumSize;
+        this.loader = loader;
+        this.statsCounter = statsCounter != null ? statsCounter : new StatsCounter();
+    }
+
+    /**
+     * Returns the value of the given class, computing it if absent.
+     *
+     * @param clazz the class
+     * @return the value
+     */
+    public V get(Class<?> clazz) {
+        Slot<V> slot = slots.get(clazz);
+        V value = slot.value;
+        if (value != null) {
+            if (!slot.referenced) {
+                slot.referenced = true;
+            }
+            statsCounter.recordHit();
+            return value;
+        }
+        synchronized (slot) {
+            value = slot.value;
+            if (value != null) {
+                // Computed by another thread in the meantime
+                statsCounter.recordHit();
+                return value;
+            }
+            statsCounter.recordMiss();
+            value = loader.apply(clazz);
+            if (value == null) {
+                return null;
+            }
+            slot.value = value;
+            SlotReference<V> ref = new SlotReference<>(slot, collectedSlots);
+            slot.reference = ref;
+            residents.add(ref);
+        }
+        if (size.incrementAndGet() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Discards the value of the given class, if any.
+     *
+     * @param clazz the class
+     */
+    public void invalidate(Class<?> clazz) {
+        Slot<V> slot = slots.get(clazz);
+        synchronized (slot) {
+            SlotReference<V> ref = slot.reference;
+            // The reference stays in the queue until the clock hand drops it
+            if (ref != null && ref.markRemoved()) {
+                size.decrementAndGet();
+            }
+            slot.value = null;
+            slot.reference = null;
+        }
+    }
+
+    /**
+     * Returns the approximate number of values in the cache.
+     */
+    public int estimatedSize() {
+        return Math.max(size.get(), 0);
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    private void evict() {
+        expungeCollectedSlots();
+        // Every slot gets at most one second chance, so two rounds are enough
+        int budget = 2 * residents.size() + 1;
+        while (size.get() > maximumSize && budget-- > 0) {
+            SlotReference<V> ref = residents.poll();
+            if (ref == null) {
+                return;
+            }
+            Slot<V> slot = ref.get();
+            if (slot == null || ref.isRemoved()) {
+                continue;
+            }
+            if (slot.referenced) {
+                slot.referenced = false;
+                residents.add(ref);
+            } else if (remove(slot, ref)) {
+                size.decrementAndGet();
+                statsCounter.recordEviction();
+            }
+        }
+    }
+
+    /**
+     * Discards the value of the given slot, unless it has been invalidated
+     * and computed again since the given reference was installed.
+     */
+    private static <V> boolean remove(Slot<V> slot, SlotReference<V> ref) {
+        synchronized (slot) {
+            if (slot.reference != ref || !ref.markRemoved()) {
+                return false;
+            }
+            slot.value = null;
+            slot.reference = null;
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expungeCollectedSlots() {
+        for (Object collected; (collected = collectedSlots.poll()) != null;) {
+            SlotReference<V> ref = (SlotReference<V>) collected;
+            if (ref.markRemoved()) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Slot<V> {
+
+        volatile V value;
+        /**
+         * Set on every hit and cleared when the clock hand passes by.
+         */
+        volatile boolean referenced;
+        volatile SlotReference<V> reference;
+
+    }
+
+    private static final class SlotReference<V> extends WeakReference<Slot<V>> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<SlotReference> REMOVED_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(SlotReference.class, "removed");
+
+        private volatile int removed;
+
+        SlotReference(Slot<V> slot, ReferenceQueue<? super Slot<V>> queue) {
+            super(slot, queue);
+        }
+
+        boolean isRemoved() {
+            return removed != 0;
+        }
+
+        /**
+         * Marks the slot as no longer resident.
+         *
+         * @return {@code true} if this call removed it
+         */
+        boolean markRemoved() {
+            return REMOVED_UPDATER.compareAndSet(this, 0, 1);
+        }
+
+    }
+
+}
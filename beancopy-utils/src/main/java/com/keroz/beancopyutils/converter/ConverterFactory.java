@@ -0,0 +1,33 @@
+package com.keroz.beancopyutils.converter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.keroz.beancopyutils.exception.InstantiationException;
+import com.keroz.beancopyutils.reflection.Instantiators;
+
+public class ConverterFactory {
+
+    private static final Map<Class<? extends Converter<?, ?>>, Converter<?, ?>> CACHE = new ConcurrentHashMap<>();
+
+    public static Converter<?, ?> getConverter(Class<? extends Converter<?, ?>> converterClass) {
+        if (converterClass == null) {
+            return null;
+        }
+        Converter<?, ?> converter = CACHE.get(converterClass);
+        if (converter == null) {
+            converter = CACHE.computeIfAbsent(converterClass, ConverterFactory::newConverter);
+        }
+        return converter;
+    }
+
+    private static Converter<?, ?> newConverter(Class<? extends Converter<?, ?>> converterClass) {
+        try {
+            return Instantiators.get(converterClass).newInstance();
+        } catch (InstantiationException e) {
+            throw new InstantiationException("Failed to instantiate converter class: " + converterClass.getName(),
+                    e);
+        }
+    }
+
+}
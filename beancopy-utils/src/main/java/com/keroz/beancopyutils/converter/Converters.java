@@ -0,0 +1,188 @@
+package com.keroz.beancopyutils.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.keroz.beancopyutils.reflection.TypeInfo;
+
+/**
+ * The registry of {@link Converter}s by source and target type, applied to
+ * fields whose source type is not assignable to their target type and which
+ * have no {@link com.keroz.beancopyutils.annotation.Converter @Converter}.
+ * Converters are resolved once per pair of types and memoized, and copiers
+ * resolve them once per copy plan.
+ * <p>
+ * Primitive types and their wrappers are interchangeable. A pair of types is
+ * resolved to, in order:
+ * <ol>
+ * <li>the converter registered for the pair;</li>
+ * <li>a built-in converter: widening numeric conversions, e.g. {@code int} to
+ * {@code long}, integral numbers to {@code BigInteger} and {@code BigDecimal},
+ * epoch milliseconds to {@code Instant} and {@code Date} and back, and
+ * {@code Date} to {@code Instant} and back;</li>
+ * <li>for an enum target, a conversion from the name of a constant, given as a
+ * {@code String} or as a constant of another enum;</li>
+ * <li>for an enum source and a {@code String} target, the name of the
+ * constant.</li>
+ * </ol>
+ * Converters are never called with {@code null}, which is copied as it is.
+ * They take and return objects, so a converted primitive value is boxed,
+ * whereas a primitive field widened to another primitive type without a
+ * registered converter is copied by the copiers without boxing.
+ */
+public final class Converters {
+
+    private static final Map<Class<?>, Map<Class<?>, Converter<?, ?>>> REGISTERED = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, Map<Class<?>, Converter<?, ?>>> BUILT_IN = new HashMap<>();
+
+    /**
+     * Placeholder for a pair of types without a converter, so that it won't be
+     * resolved again.
+     */
+    private static final Converter<?, ?> NO_CONVERTER = source -> null;
+
+    /**
+     * Resolved converters, by source type and then by target type. Both levels
+     * are attached to the classes themselves, so that neither a converter nor a
+     * miss keeps a class alive, e.g. an enum of a web application converted
+     * from a {@code String}.
+     */
+    private static final ClassValue<ClassValue<Converter<?, ?>>> RESOLVED = new ClassValue<ClassValue<Converter<?, ?>>>() {
+
+        @Override
+        protected ClassValue<Converter<?, ?>> computeValue(Class<?> sourceType) {
+            return new ClassValue<Converter<?, ?>>() {
+
+                @Override
+                protected Converter<?, ?> computeValue(Class<?> targetType) {
+                    return resolve(sourceType, targetType);
+                }
+
+            };
+        }
+
+    };
+
+    static {
+        builtIn(Byte.class, Short.class, source -> ((Byte) source).shortValue());
+        for (Class<?> integral : new Class<?>[] { Byte.class, Short.class, Integer.class }) {
+            builtIn(integral, Integer.class, source -> ((Number) source).intValue());
+        }
+        for (Class<?> integral : new Class<?>[] { Byte.class, Short.class, Integer.class, Long.class }) {
+            builtIn(integral, Long.class, source -> ((Number) source).longValue());
+            builtIn(integral, Float.class, source -> ((Number) source).floatValue());
+            builtIn(integral, Double.class, source -> ((Number) source).doubleValue());
+            builtIn(integral, BigInteger.class, source -> BigInteger.valueOf(((Number) source).longValue()));
+            builtIn(integral, BigDecimal.class, source -> BigDecimal.valueOf(((Number) source).longValue()));
+        }
+        builtIn(Float.class, Double.class, source -> ((Float) source).doubleValue());
+        builtIn(Character.class, Integer.class, source -> (int) (Character) source);
+        builtIn(Character.class, Long.class, source -> (long) (Character) source);
+        builtIn(Character.class, Float.class, source -> (float) (Character) source);
+        builtIn(Character.class, Double.class, source -> (double) (Character) source);
+        builtIn(BigInteger.class, BigDecimal.class, source -> new BigDecimal((BigInteger) source));
+
+        builtIn(Long.class, Instant.class, source -> Instant.ofEpochMilli((Long) source));
+        builtIn(Instant.class, Long.class, source -> ((Instant) source).toEpochMilli());
+        builtIn(Long.class, Date.class, source -> new Date((Long) source));
+        builtIn(Date.class, Long.class, source -> ((Date) source).getTime());
+        builtIn(Date.class, Instant.class, source -> ((Date) source).toInstant());
+        builtIn(Instant.class, Date.class, source -> Date.from((Instant) source));
+    }
+
+    private Converters() {
+    }
+
+    private static void builtIn(Class<?> sourceType, Class<?> targetType, Converter<Object, Object> converter) {
+        BUILT_IN.computeIfAbsent(targetType, key -> new HashMap<>()).put(sourceType, converter);
+    }
+
+    /**
+     * Registers a converter for a pair of types, replacing the built-in one if
+     * any.
+     * <p>
+     * Converters should be registered before the pair is first copied, since
+     * copy plans which are already built keep their converter.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @param converter  the converter
+     */
+    public static <Source, Target> void register(Class<Source> sourceType, Class<Target> targetType,
+            Converter<? super Source, ? extends Target> converter) {
+        if (sourceType == null || targetType == null || converter == null) {
+            throw new IllegalArgumentException("Source type, target type or converter is null");
+        }
+        REGISTERED.computeIfAbsent(wrap(targetType), key -> new ConcurrentHashMap<>()).put(wrap(sourceType),
+                converter);
+        RESOLVED.remove(sourceType);
+        RESOLVED.remove(wrap(sourceType));
+        Class<?> primitiveType = TypeInfo.of(sourceType).getPrimitiveType();
+        if (primitiveType != null) {
+            RESOLVED.remove(primitiveType);
+        }
+    }
+
+    /**
+     * Checks if a converter is registered for a pair of types, rather than
+     * built in.
+     */
+    public static boolean isRegistered(Class<?> sourceType, Class<?> targetType) {
+        return find(REGISTERED, wrap(sourceType), wrap(targetType)) != null;
+    }
+
+    /**
+     * Returns the converter of a pair of types.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return the converter, or {@code null} if there's none
+     */
+    @SuppressWarnings("unchecked")
+    public static <Source, Target> Converter<Source, Target> get(Class<Source> sourceType, Class<Target> targetType) {
+        if (sourceType == null || targetType == null) {
+            return null;
+        }
+        Converter<?, ?> converter = RESOLVED.get(sourceType).get(targetType);
+        return converter != NO_CONVERTER ? (Converter<Source, Target>) converter : null;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Converter<?, ?> resolve(Class<?> sourceType, Class<?> targetType) {
+        Class<?> source = wrap(sourceType);
+        Class<?> target = wrap(targetType);
+        Converter<?, ?> converter = find(REGISTERED, source, target);
+        if (converter == null) {
+            converter = find(BUILT_IN, source, target);
+        }
+        if (converter == null && target.isEnum()) {
+            if (source == String.class) {
+                converter = name -> Enum.valueOf((Class) target, (String) name);
+            } else if (Enum.class.isAssignableFrom(source)) {
+                converter = constant -> Enum.valueOf((Class) target, ((Enum<?>) constant).name());
+            }
+        }
+        if (converter == null && Enum.class.isAssignableFrom(source) && target == String.class) {
+            converter = constant -> ((Enum<?>) constant).name();
+        }
+        return converter != null ? converter : NO_CONVERTER;
+    }
+
+    private static Converter<?, ?> find(Map<Class<?>, Map<Class<?>, Converter<?, ?>>> converters, Class<?> source,
+            Class<?> target) {
+        Map<Class<?>, Converter<?, ?>> bySource = converters.get(target);
+        return bySource != null ? bySource.get(source) : null;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        Class<?> wrapperType = TypeInfo.of(type).getWrapperType();
+        return wrapperType != null ? wrapperType : type;
+    }
+
+}
@@ -0,0 +1,865 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.cache.CacheStats;
+import com.keroz.beancopyutils.cache.ClassCache;
+import com.keroz.beancopyutils.cache.StatsCounter;
+import com.keroz.beancopyutils.exception.TypeMismatchException;
+import com.keroz.beancopyutils.reflection.ExtendedField;
+import com.keroz.beancopyutils.reflection.Instantiator;
+import com.keroz.beancopyutils.reflection.Instantiators;
+import com.keroz.beancopyutils.reflection.ReflectionUtils;
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+import com.keroz.beancopyutils.reflection.ResolvedType;
+import com.keroz.beancopyutils.reflection.TypeInfo;
+
+import lombok.Data;
+
+public abstract class AbstractCachedCopier implements Copier {
+
+    /**
+     * The default maximum number of classes, as well as of source classes per
+     * target class, to keep in the caches.
+     */
+    public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 4096;
+
+    /**
+     * 缓存
+     */
+    private final ClassCache<Cache> cacheMap;
+    /**
+     * Copy plans, keyed by target class first and then by source class. A plan
+     * is attached to its source class and references its target class, so a
+     * source class of a parent class loader keeps the target classes of a child
+     * loader alive until their plans are evicted.
+     */
+    private final ClassCache<ClassCache<CopyPlan>> planMap;
+    private final StatsCounter planStats = new StatsCounter();
+    private volatile boolean recording;
+    private final Set<ClassPair> recordedPairs = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    protected AbstractCachedCopier() {
+        this(DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+
+    /**
+     * @param maximumCacheSize the maximum number of classes, as well as of source
+     *                         classes per target class, to keep in the caches
+     */
+    protected AbstractCachedCopier(int maximumCacheSize) {
+        this.cacheMap = new ClassCache<>(maximumCacheSize, this::newCacheFor);
+        this.planMap = new ClassCache<>(maximumCacheSize,
+                targetClass -> new ClassCache<>(maximumCacheSize, sourceClass -> newPlan(sourceClass, targetClass),
+                        planStats));
+    }
+
+    @Override
+    public <Source, Target> Target copy(Source source, Class<Target> targetClass, CopyOptions options) {
+        if (source == null) {
+            return null;
+        }
+        if (targetClass == null) {
+            throw new IllegalArgumentException("Target class is null");
+        }
+        if (TypeInfo.of(targetClass).isImmutable() && targetClass.isInstance(source)) {
+            return targetClass.cast(source);
+        }
+        CopyPlan plan = getPlan(source.getClass(), targetClass);
+        if (options != null && options.isIdentityPreserved()) {
+            return copyPreservingIdentity(source, targetClass, plan, options);
+        }
+        Target target = newTarget(source, targetClass, plan, options);
+        copy(source, target, plan, options);
+        return target;
+    }
+
+    /**
+     * Copies the source into a new target, or returns the target it's already
+     * copied to within the current copy. The target is registered before its
+     * fields are copied, so that cyclic references resolve to it, except for
+     * the arguments of a target built through its constructor.
+     */
+    private <Target> Target copyPreservingIdentity(Object source, Class<Target> targetClass, CopyPlan plan,
+            CopyOptions options) {
+        IdentityTable identities = IdentityTable.enter(options);
+        try {
+            Object copied = identities.get(source, targetClass);
+            if (copied != null) {
+                return targetClass.cast(copied);
+            }
+            Target target = newTarget(source, targetClass, plan, options);
+            identities.put(source, targetClass, target);
+            plan.copy(source, target, options);
+            return target;
+        } finally {
+            IdentityTable.exit(identities);
+        }
+    }
+
+    /**
+     * Copies the source into the given target with the plan, registering the
+     * target first if identities are preserved.
+     */
+    protected final void copy(Object source, Object target, CopyPlan plan, CopyOptions options) {
+        IdentityTable identities = IdentityTable.enter(options);
+        if (identities == null) {
+            plan.copy(source, target, options);
+            return;
+        }
+        try {
+            identities.put(source, target.getClass(), target);
+            plan.copy(source, target, options);
+        } finally {
+            IdentityTable.exit(identities);
+        }
+    }
+
+    @Override
+    public <Source, Target> Function<Source, Target> copying(Class<Target> targetClass, CopyOptions options) {
+        if (targetClass == null) {
+            throw new IllegalArgumentException("Target class is null");
+        }
+        if (ReflectionUtils.isPrimitive(targetClass)) {
+            return targetClass::cast;
+        }
+        return new PlanMemoizingCopier<>(targetClass, options, planMap.get(targetClass));
+    }
+
+    @Override
+    public <Source, Target> Mapper<Source, Target> mapper(Class<Source> sourceClass, Class<Target> targetClass,
+            CopyOptions options) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("Source class or target class is null");
+        }
+        if (ReflectionUtils.isPrimitive(targetClass)) {
+            return Copier.super.mapper(sourceClass, targetClass, options);
+        }
+        return new BoundMapper<>(sourceClass, targetClass, options != null ? options : CopyOptions.DEFAULT);
+    }
+
+    /**
+     * Prepares the pair by compiling its plan, which resolves the metadata of
+     * both classes, the field readers and writers, and the converters. Nested
+     * pairs are found through the declared types of the target fields and of the
+     * matching source properties.
+     */
+    @Override
+    public void prepare(Class<?> sourceClass, Class<?> targetClass) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("Source class or target class is null");
+        }
+        Set<ClassPair> pairs = new LinkedHashSet<>();
+        collectPairs(sourceClass, targetClass, pairs);
+        for (ClassPair pair : pairs) {
+            getPlan(pair.getSourceClass(), pair.getTargetClass());
+        }
+    }
+
+    @Override
+    public Set<ClassPair> getNestedPairs(Class<?> sourceClass, Class<?> targetClass) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("Source class or target class is null");
+        }
+        Set<ClassPair> pairs = new LinkedHashSet<>();
+        collectPairs(sourceClass, targetClass, pairs);
+        pairs.remove(ClassPair.of(sourceClass, targetClass));
+        return Collections.unmodifiableSet(pairs);
+    }
+
+    /**
+     * Collects the pair, and the pairs nested in it, which are prepared, the
+     * outer ones first.
+     */
+    private static void collectPairs(Class<?> sourceClass, Class<?> targetClass, Set<ClassPair> pairs) {
+        if (!isPreparable(sourceClass) || !isPreparable(targetClass)
+                || !pairs.add(ClassPair.of(sourceClass, targetClass))) {
+            return;
+        }
+        for (Field field : ReflectionUtils.getAllInstanceFields(targetClass)) {
+            ExtendedField targetField = new ExtendedField(field, targetClass);
+            Type sourceType = ReflectionUtils.getPropertyGenericType(sourceClass, targetField.getAliasFor());
+            if (sourceType != null) {
+                collectPairs(ResolvedType.resolve(sourceType, sourceClass), targetField.getResolvedType(), pairs);
+            }
+        }
+    }
+
+    private static void collectPairs(ResolvedType sourceType, ResolvedType targetType, Set<ClassPair> pairs) {
+        GeneralType generalType = targetType.getGeneralType();
+        if (generalType == GeneralType.OBJECT) {
+            collectPairs(sourceType.getRawType(), targetType.getRawType(), pairs);
+        } else if (generalType != sourceType.getGeneralType()) {
+            return;
+        } else if (generalType == GeneralType.ARRAY) {
+            collectPairs(sourceType.getComponentType(), targetType.getComponentType(), pairs);
+        } else if (generalType == GeneralType.COLLECTION) {
+            collectPairs(sourceType.getTypeArgument(0), targetType.getTypeArgument(0), pairs);
+        } else if (generalType == GeneralType.MAP) {
+            collectPairs(sourceType.getTypeArgument(0), targetType.getTypeArgument(0), pairs);
+            collectPairs(sourceType.getTypeArgument(1), targetType.getTypeArgument(1), pairs);
+        }
+    }
+
+    /**
+     * Checks if a class may be the class of a bean being copied, rather than a
+     * declared type only, e.g. an interface.
+     */
+    private static boolean isPreparable(Class<?> clazz) {
+        return clazz != Object.class && !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers())
+                && TypeInfo.of(clazz).getGeneralType() == GeneralType.OBJECT;
+    }
+
+    @Override
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public Set<ClassPair> getRecordedPairs() {
+        synchronized (recordedPairs) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(recordedPairs));
+        }
+    }
+
+    /**
+     * Creates a new instance of the target class, see {@link Instantiators}.
+     */
+    protected <Target> Target newTarget(Class<Target> targetClass) {
+        return Instantiators.get(targetClass).newInstance();
+    }
+
+    /**
+     * Creates a new instance of the target class, built by the plan if the
+     * target class is built through its constructor, see
+     * {@link CopyPlan#newTarget(Object, CopyOptions)}.
+     */
+    private <Target> Target newTarget(Object source, Class<Target> targetClass, CopyPlan plan,
+            CopyOptions options) {
+        Object target = plan.newTarget(source, options);
+        return target != null ? targetClass.cast(target) : newTarget(targetClass);
+    }
+
+    @Override
+    public Object copyArray(Object sourceArray, Class<?> targetComponentClass, CopyOptions options) {
+        boolean primitive = ReflectionUtils.isPrimitive(targetComponentClass);
+        if (primitive) {
+            Object targetArray = PrimitiveArrays.copy(sourceArray, targetComponentClass);
+            if (targetArray != null) {
+                return targetArray;
+            }
+        }
+        int length = Array.getLength(sourceArray);
+        Object targetArray = Array.newInstance(targetComponentClass, length);
+        IdentityTable identities = IdentityTable.enter(options);
+        try {
+            if (primitive) {
+                // e.g. boxing or unboxing
+                for (int i = 0; i < length; i++) {
+                    Array.set(targetArray, i, Array.get(sourceArray, i));
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    Array.set(targetArray, i, copy(Array.get(sourceArray, i), targetComponentClass, options));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new TypeMismatchException(targetArray.getClass(), sourceArray.getClass());
+        } finally {
+            IdentityTable.exit(identities);
+        }
+        return targetArray;
+    }
+
+    @Override
+    public <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options) {
+        if (sourceCollection == null) {
+            return null;
+        }
+
+        Function<SourceComponent, TargetComponent> componentCopier = getComponentCopier(targetComponentClass, options);
+        TargetCollection targetCollection = newTargetCollection(sourceCollection, supplier);
+        IdentityTable identities = IdentityTable.enter(options);
+        try {
+            for (SourceComponent sourceComponent : sourceCollection) {
+                targetCollection.add(componentCopier.apply(sourceComponent));
+            }
+        } finally {
+            IdentityTable.exit(identities);
+        }
+        return targetCollection;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <SourceKey, SourceValue, TargetKey, TargetValue, TargetMap extends Map<TargetKey, TargetValue>> TargetMap copyMap(
+            Map<SourceKey, SourceValue> sourceMap, Class<TargetKey> targetKeyClass,
+            Class<TargetValue> targetValueClass, Supplier<TargetMap> supplier, CopyOptions options) {
+        if (sourceMap == null) {
+            return null;
+        }
+
+        Function<SourceKey, TargetKey> keyCopier = getMapComponentCopier(targetKeyClass, options);
+        Function<SourceValue, TargetValue> valueCopier = getMapComponentCopier(targetValueClass, options);
+        TargetMap targetMap = null;
+        if (supplier != null) {
+            targetMap = supplier.get();
+        }
+        if (targetMap == null) {
+            targetMap = (TargetMap) MapFactories.create(sourceMap.getClass(), sourceMap.size());
+        }
+        IdentityTable identities = IdentityTable.enter(options);
+        try {
+            for (Map.Entry<SourceKey, SourceValue> entry : sourceMap.entrySet()) {
+                targetMap.put(keyCopier.apply(entry.getKey()), valueCopier.apply(entry.getValue()));
+            }
+        } finally {
+            IdentityTable.exit(identities);
+        }
+        return targetMap;
+    }
+
+    /**
+     * Returns the function copying the keys or the values of a map given by
+     * class, see {@link #getValueCopier(ResolvedType, CopyOptions)}.
+     */
+    @SuppressWarnings("unchecked")
+    private <SourceComponent, TargetComponent> Function<SourceComponent, TargetComponent> getMapComponentCopier(
+            Class<TargetComponent> targetComponentClass, CopyOptions options) {
+        return (Function<SourceComponent, TargetComponent>) getValueCopier(ResolvedType.of(targetComponentClass),
+                options);
+    }
+
+    /**
+     * Copies a value to the given generic type, e.g. the value of a field.
+     * Collections, maps and arrays are copied along with their elements, as deep
+     * as their type arguments are resolved.
+     *
+     * @param value               the value to copy
+     * @param targetType          the type to copy to
+     * @param implementationClass the class of the collection to create, or
+     *                            {@code null} to create one of the target type if
+     *                            it's a class, or of the class of the value
+     * @param options             the copy options
+     * @return the copied value
+     * @throws TypeMismatchException if the value is not a collection, a map or an
+     *                               array while the target type is
+     */
+    @SuppressWarnings("unchecked")
+    protected Object copyValue(Object value, ResolvedType targetType, Class<?> implementationClass,
+            CopyOptions options) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> targetClass = targetType.getRawType();
+        switch (targetType.getGeneralType()) {
+            case PRIMITIVE:
+                return value;
+            case ARRAY: {
+                if (!value.getClass().isArray()) {
+                    throw new TypeMismatchException(Array.class, value.getClass());
+                }
+                ResolvedType componentType = targetType.getComponentType();
+                if (!componentType.isParameterized()) {
+                    return copyArray(value, componentType.getRawType(), options);
+                }
+                Function<Object, Object> componentCopier = getValueCopier(componentType, options);
+                int length = Array.getLength(value);
+                Object[] targetArray = (Object[]) Array.newInstance(componentType.getRawType(), length);
+                IdentityTable identities = IdentityTable.enter(options);
+                try {
+                    for (int i = 0; i < length; i++) {
+                        targetArray[i] = componentCopier.apply(Array.get(value, i));
+                    }
+                } catch (ArrayStoreException e) {
+                    throw new TypeMismatchException(targetArray.getClass(), value.getClass());
+                } finally {
+                    IdentityTable.exit(identities);
+                }
+                return targetArray;
+            }
+            case COLLECTION: {
+                if (!(value instanceof Collection)) {
+                    throw new TypeMismatchException(Collection.class, value.getClass());
+                }
+                Collection<Object> sourceCollection = (Collection<Object>) value;
+                if (implementationClass == null && !targetClass.isInterface()) {
+                    implementationClass = targetClass;
+                }
+                CollectionFactory factory = implementationClass != null ? CollectionFactories.get(implementationClass)
+                        : null;
+                Collection<Object> targetCollection = factory != null ? factory.create(sourceCollection.size())
+                        : CollectionFactories.create(sourceCollection.getClass(), sourceCollection.size());
+                Function<Object, Object> elementCopier = getValueCopier(targetType.getTypeArgument(0), options);
+                IdentityTable identities = IdentityTable.enter(options);
+                try {
+                    for (Object element : sourceCollection) {
+                        targetCollection.add(elementCopier.apply(element));
+                    }
+                } finally {
+                    IdentityTable.exit(identities);
+                }
+                return targetCollection;
+            }
+            case MAP: {
+                if (!(value instanceof Map)) {
+                    throw new TypeMismatchException(Map.class, value.getClass());
+                }
+                Map<Object, Object> sourceMap = (Map<Object, Object>) value;
+                MapFactory factory = !targetClass.isInterface() ? MapFactories.get(targetClass) : null;
+                Map<Object, Object> targetMap = factory != null ? factory.create(sourceMap.size())
+                        : MapFactories.create(sourceMap.getClass(), sourceMap.size());
+                Function<Object, Object> keyCopier = getValueCopier(targetType.getTypeArgument(0), options);
+                Function<Object, Object> valueCopier = getValueCopier(targetType.getTypeArgument(1), options);
+                IdentityTable identities = IdentityTable.enter(options);
+                try {
+                    for (Map.Entry<Object, Object> entry : sourceMap.entrySet()) {
+                        targetMap.put(keyCopier.apply(entry.getKey()), valueCopier.apply(entry.getValue()));
+                    }
+                } finally {
+                    IdentityTable.exit(identities);
+                }
+                return targetMap;
+            }
+            default:
+                // Values of unknown types are shared
+                return targetClass == Object.class ? value : copy(value, targetClass, options);
+        }
+    }
+
+    /**
+     * Returns the function copying the elements of a collection or an array, or
+     * the keys or the values of a map, to the given type. Elements of primitive
+     * types, and of unknown types because of a raw type, are shared, as are
+     * collections and maps whose own type arguments are unknown.
+     */
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> getValueCopier(ResolvedType targetType, CopyOptions options) {
+        Class<Object> targetClass = (Class<Object>) targetType.getRawType();
+        if (targetClass == Object.class) {
+            return Function.identity();
+        }
+        switch (targetType.getGeneralType()) {
+            case PRIMITIVE:
+                return targetClass::cast;
+            case COLLECTION:
+            case MAP:
+                if (!targetType.isParameterized()) {
+                    return targetClass::cast;
+                }
+                return value -> copyValue(value, targetType, null, options);
+            case ARRAY:
+                return value -> copyValue(value, targetType, null, options);
+            default:
+                return copying(targetClass, options);
+        }
+    }
+
+    @Override
+    public <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollectionParallel(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options, ParallelOptions parallelOptions) {
+        if (sourceCollection == null) {
+            return null;
+        }
+        int size = sourceCollection.size();
+        if (size < parallelOptions.getThreshold() || options != null && options.isIdentityPreserved()) {
+            // Identity tables are per thread
+            return copyCollection(sourceCollection, targetComponentClass, supplier, options);
+        }
+
+        // Split on the calling thread, since the source may not be thread-safe
+        List<Spliterator<SourceComponent>> chunks = new ArrayList<>();
+        split(sourceCollection.spliterator(), parallelOptions.getChunkSize(size), chunks);
+        Function<SourceComponent, TargetComponent> componentCopier = getComponentCopier(targetComponentClass, options);
+        List<CompletableFuture<List<TargetComponent>>> futures = new ArrayList<>(chunks.size());
+        for (Spliterator<SourceComponent> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<TargetComponent> copied = new ArrayList<>((int) chunk.estimateSize());
+                chunk.forEachRemaining(sourceComponent -> copied.add(componentCopier.apply(sourceComponent)));
+                return copied;
+            }, parallelOptions.getExecutor()));
+        }
+
+        // Chunks are in encounter order
+        TargetCollection targetCollection = newTargetCollection(sourceCollection, supplier);
+        for (CompletableFuture<List<TargetComponent>> future : futures) {
+            targetCollection.addAll(join(future, futures));
+        }
+        return targetCollection;
+    }
+
+    @Override
+    public Object copyArrayParallel(Object sourceArray, Class<?> targetComponentClass, CopyOptions options,
+            ParallelOptions parallelOptions) {
+        int length = Array.getLength(sourceArray);
+        if (length < parallelOptions.getThreshold() || ReflectionUtils.isPrimitive(targetComponentClass)
+                || !(sourceArray instanceof Object[]) || options != null && options.isIdentityPreserved()) {
+            // Primitive arrays are bulk copied anyway, and identity tables are per thread
+            return copyArray(sourceArray, targetComponentClass, options);
+        }
+
+        Object[] source = (Object[]) sourceArray;
+        Object[] target = (Object[]) Array.newInstance(targetComponentClass, length);
+        int chunkSize = parallelOptions.getChunkSize(length);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int start = 0; start < length; start += chunkSize) {
+            int from = start;
+            int to = Math.min(length, start + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    target[i] = copy(source[i], targetComponentClass, options);
+                }
+            }, parallelOptions.getExecutor()));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            join(future, futures);
+        }
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <SourceComponent, TargetComponent> Function<SourceComponent, TargetComponent> getComponentCopier(
+            Class<TargetComponent> targetComponentClass, CopyOptions options) {
+        if (ReflectionUtils.isPrimitive(targetComponentClass)) {
+            return sourceComponent -> targetComponentClass.cast(sourceComponent);
+        }
+        return sourceComponent -> copy(sourceComponent, targetComponentClass, options);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TargetCollection extends Collection<?>> TargetCollection newTargetCollection(
+            Collection<?> sourceCollection, Supplier<TargetCollection> supplier) {
+        if (supplier != null) {
+            TargetCollection instance = supplier.get();
+
+            if (instance != null) {
+                return instance;
+            }
+        }
+        return (TargetCollection) CollectionFactories.create(sourceCollection.getClass(), sourceCollection.size());
+    }
+
+    /**
+     * Splits the spliterator into chunks of about the given size, in encounter
+     * order.
+     */
+    private static <T> void split(Spliterator<T> spliterator, int chunkSize, List<Spliterator<T>> chunks) {
+        Spliterator<T> prefix;
+        while (spliterator.estimateSize() > chunkSize && (prefix = spliterator.trySplit()) != null) {
+            split(prefix, chunkSize, chunks);
+        }
+        chunks.add(spliterator);
+    }
+
+    /**
+     * Waits for a chunk, cancelling the others if it failed.
+     */
+    private static <T> T join(CompletableFuture<T> future, List<? extends CompletableFuture<?>> futures) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            for (CompletableFuture<?> other : futures) {
+                other.cancel(false);
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    protected final boolean shouldIgnoreNullOrEmpty(Object value, ExtendedField field,
+            IgnorePolicy ignorePolicy) {
+        CopyIgnore copyIgnore = field.getCopyIgnore();
+        return CopyIgnoreSupport.shouldIgnoreNullOrEmpty(value, copyIgnore != null ? copyIgnore.policy() : null,
+                ignorePolicy);
+    }
+
+    protected final boolean hasCondition(Class<?>[] annotationValue, Class<?>[] ignoreConditions) {
+        return CopyIgnoreSupport.hasCondition(annotationValue, ignoreConditions);
+    }
+
+    protected final boolean isGroupMatched(Class<?>[] exceptionGroups, Class<?>[] givenGroups) {
+        return CopyIgnoreSupport.isGroupMatched(exceptionGroups, givenGroups);
+    }
+
+    /**
+     * 获取缓存, 获取不到则新建
+     *
+     * @param clazz 类对象
+     * @return 类对象对应的缓存
+     */
+    protected Cache getCache(Class<?> clazz) {
+        return cacheMap.get(clazz);
+    }
+
+    protected abstract Cache newCacheFor(Class<?> clazz);
+
+    /**
+     * Returns the copy plan for the given pair of classes, compiling a new one if
+     * none exists yet. A {@link TypedCopier} generated at compile time is
+     * preferred if there is one for the pair.
+     *
+     * @param sourceClass the source class
+     * @param targetClass the target class
+     * @return the copy plan
+     */
+    protected CopyPlan getPlan(Class<?> sourceClass, Class<?> targetClass) {
+        return planMap.get(targetClass).get(sourceClass);
+    }
+
+    private CopyPlan newPlan(Class<?> sourceClass, Class<?> targetClass) {
+        if (recording) {
+            recordedPairs.add(ClassPair.of(sourceClass, targetClass));
+        }
+        TypedCopier<?, ?> typedCopier = TypedCopiers.find(sourceClass, targetClass);
+        return typedCopier != null ? new TypedCopyPlan(typedCopier, this) : newPlanFor(sourceClass, targetClass);
+    }
+
+    /**
+     * Returns the statistics of the class metadata cache.
+     */
+    public CacheStats getCacheStats() {
+        return cacheMap.stats();
+    }
+
+    /**
+     * Returns the statistics of the copy plans, summed over all target classes.
+     */
+    public CacheStats getPlanCacheStats() {
+        return planStats.snapshot();
+    }
+
+    protected abstract CopyPlan newPlanFor(Class<?> sourceClass, Class<?> targetClass);
+
+    @Data
+    protected static class Cache {
+
+        private Class<?> clazz;
+
+        public Cache(Class<?> clazz) {
+            this.clazz = clazz;
+        }
+
+        public Class<?> getCachedClass() {
+            return this.clazz;
+        }
+
+    }
+
+    /**
+     * A plan to copy from a certain source class to a certain target class. A plan
+     * is compiled once and can then be executed for any pair of instances.
+     */
+    protected abstract static class CopyPlan {
+
+        private final Class<?> sourceClass;
+        private final Class<?> targetClass;
+
+        public CopyPlan(Class<?> sourceClass, Class<?> targetClass) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+        }
+
+        public Class<?> getSourceClass() {
+            return this.sourceClass;
+        }
+
+        public Class<?> getTargetClass() {
+            return this.targetClass;
+        }
+
+        /**
+         * Copies from the source object to the target object.
+         *
+         * @param source  the source object, must be an instance of the source
+         *                class
+         * @param target  the target object, must be an instance of the target
+         *                class
+         * @param options the copy options
+         */
+        public abstract void copy(Object source, Object target, CopyOptions options);
+
+        /**
+         * Creates a new target from the source, if the target class is built
+         * through a constructor taking the values of its fields, e.g. a record.
+         * Fields the constructor doesn't take are still copied by
+         * {@link #copy(Object, Object, CopyOptions)} afterwards.
+         *
+         * @param source  the source object, must be an instance of the source
+         *                class
+         * @param options the copy options
+         * @return the new target, or {@code null} if the target class is to be
+         *         instantiated through {@link Instantiators}
+         */
+        public Object newTarget(Object source, CopyOptions options) {
+            return null;
+        }
+
+        /**
+         * Returns this plan bound to the given options, with whatever depends
+         * only on the options, such as the ignored fields, resolved up front.
+         *
+         * @param options the copy options
+         * @return the bound plan
+         */
+        public BoundCopyPlan bind(CopyOptions options) {
+            return (source, target) -> copy(source, target, options);
+        }
+
+    }
+
+    /**
+     * A copy plan bound to certain options, see {@link CopyPlan#bind(CopyOptions)}.
+     */
+    @FunctionalInterface
+    protected interface BoundCopyPlan {
+
+        void copy(Object source, Object target);
+
+    }
+
+    /**
+     * A mapper bound to the plan of its pair and its options. Sources of a
+     * subclass of the source class are copied as usual.
+     */
+    private final class BoundMapper<Source, Target> implements Mapper<Source, Target> {
+
+        private final Class<Source> sourceClass;
+        private final Class<Target> targetClass;
+        private final CopyOptions options;
+        private final CopyPlan plan;
+        private final BoundCopyPlan boundPlan;
+        private final Instantiator<Target> instantiator;
+
+        BoundMapper(Class<Source> sourceClass, Class<Target> targetClass, CopyOptions options) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+            this.options = options;
+            this.plan = getPlan(sourceClass, targetClass);
+            this.boundPlan = plan.bind(options);
+            this.instantiator = Instantiators.get(targetClass);
+        }
+
+        @Override
+        public Target map(Source source) {
+            if (source == null) {
+                return null;
+            }
+            if (source.getClass() != sourceClass) {
+                return copy(source, targetClass, options);
+            }
+            if (options.isIdentityPreserved()) {
+                return copyPreservingIdentity(source, targetClass, plan, options);
+            }
+            Object constructed = plan.newTarget(source, options);
+            Target target = constructed != null ? targetClass.cast(constructed) : instantiator.newInstance();
+            boundPlan.copy(source, target);
+            return target;
+        }
+
+        @Override
+        public Target map(Source source, Target target) {
+            if (source.getClass() != sourceClass || target.getClass() != targetClass) {
+                return copy(source, target, options);
+            }
+            if (options.isIdentityPreserved()) {
+                copy(source, target, plan, options);
+            } else {
+                boundPlan.copy(source, target);
+            }
+            return target;
+        }
+
+    }
+
+    /**
+     * Copies into new instances of a certain target class, remembering the plan
+     * of the last source class, which is usually the same for all elements of a
+     * stream.
+     */
+    private final class PlanMemoizingCopier<Source, Target> implements Function<Source, Target> {
+
+        private final Class<Target> targetClass;
+        private final CopyOptions options;
+        private final ClassCache<CopyPlan> plans;
+        /**
+         * Replaced as a whole, so that it's safe to use from several threads.
+         */
+        private CopyPlan lastPlan;
+
+        PlanMemoizingCopier(Class<Target> targetClass, CopyOptions options, ClassCache<CopyPlan> plans) {
+            this.targetClass = targetClass;
+            this.options = options != null ? options : CopyOptions.DEFAULT;
+            this.plans = plans;
+        }
+
+        @Override
+        public Target apply(Source source) {
+            if (source == null) {
+                return null;
+            }
+            CopyPlan plan = lastPlan;
+            if (plan == null || plan.getSourceClass() != source.getClass()) {
+                plan = plans.get(source.getClass());
+                lastPlan = plan;
+            }
+            if (options.isIdentityPreserved()) {
+                return copyPreservingIdentity(source, targetClass, plan, options);
+            }
+            Target target = newTarget(source, targetClass, plan, options);
+            plan.copy(source, target, options);
+            return target;
+        }
+
+    }
+
+    /**
+     * A copy plan backed by a {@link TypedCopier} generated at compile time,
+     * which passes the options on to its nested copies as they are.
+     */
+    private static final class TypedCopyPlan extends CopyPlan {
+
+        private final TypedCopier<Object, Object> typedCopier;
+        private final Copier copier;
+
+        @SuppressWarnings("unchecked")
+        TypedCopyPlan(TypedCopier<?, ?> typedCopier, Copier copier) {
+            super(typedCopier.getSourceClass(), typedCopier.getTargetClass());
+            this.typedCopier = (TypedCopier<Object, Object>) typedCopier;
+            this.copier = copier;
+        }
+
+        @Override
+        public void copy(Object source, Object target, CopyOptions options) {
+            typedCopier.copy(source, target, options, copier);
+        }
+
+    }
+
+}
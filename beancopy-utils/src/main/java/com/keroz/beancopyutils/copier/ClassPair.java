@@ -0,0 +1,20 @@
+package com.keroz.beancopyutils.copier;
+
+import lombok.Value;
+
+/**
+ * A pair of source class and target class, as copied by a copier, see
+ * {@link Copier#prepare(Class, Class)} and {@link ClassPairs}.
+ */
+@Value(staticConstructor = "of")
+public class ClassPair {
+
+    Class<?> sourceClass;
+    Class<?> targetClass;
+
+    @Override
+    public String toString() {
+        return sourceClass.getName() + " -> " + targetClass.getName();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.keroz.beancopyutils.copier;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes and reads lists of {@link ClassPair}s, e.g. the pairs recorded in a
+ * run (see {@link Copier#setRecording(boolean)}) to be prepared at the next
+ * startup (see {@link Copier#prepare(Class, Class)}).
+ * <p>
+ * Each pair is written on a line of its own, as the names of its source class
+ * and its target class separated by {@code " -> "}. Blank lines and lines
+ * starting with {@code #} are skipped when read.
+ */
+@Slf4j
+public final class ClassPairs {
+
+    private static final String SEPARATOR = " -> ";
+
+    private ClassPairs() {
+    }
+
+    /**
+     * Writes the pairs, in the order given.
+     *
+     * @param pairs  the pairs
+     * @param writer the writer, which is not closed
+     * @throws IOException if the writer fails
+     */
+    public static void write(Collection<ClassPair> pairs, Writer writer) throws IOException {
+        for (ClassPair pair : pairs) {
+            writer.write(pair.getSourceClass().getName() + SEPARATOR + pair.getTargetClass().getName());
+            writer.write(System.lineSeparator());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads pairs, loading their classes. Pairs of classes which can't be loaded
+     * any more, e.g. since they've been removed, are skipped.
+     *
+     * @param reader      the reader, which is not closed
+     * @param classLoader the class loader to load the classes with
+     * @return the pairs, in the order read
+     * @throws IOException if the reader fails, or a line is not a pair
+     */
+    public static List<ClassPair> read(Reader reader, ClassLoader classLoader) throws IOException {
+        List<ClassPair> pairs = new ArrayList<>();
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader
+                : new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IOException("Not a class pair: " + line);
+            }
+            String sourceClassName = line.substring(0, separator).trim();
+            String targetClassName = line.substring(separator + SEPARATOR.length()).trim();
+            try {
+                pairs.add(ClassPair.of(Class.forName(sourceClassName, false, classLoader),
+                        Class.forName(targetClassName, false, classLoader)));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Skipping class pair " + line + ", which can't be loaded", e);
+            }
+        }
+        return pairs;
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.keroz.beancopyutils.exception.InstantiationException;
+
+/**
+ * The registry of {@link CollectionFactory}s, resolving the factory of a
+ * collection class once and memoizing it.
+ * <p>
+ * A collection class is resolved to, in order:
+ * <ol>
+ * <li>the factory registered for the class or its closest abstract
+ * superclass;</li>
+ * <li>a pre-sizing factory of the common {@code java.util} classes;</li>
+ * <li>a default implementation of {@code Collection}, {@code List},
+ * {@code Set}, {@code SortedSet}, {@code Queue} and {@code Deque}, of
+ * {@code AbstractList} and {@code AbstractSet} for views such as
+ * {@code Arrays.asList}, and of ORM
+ * collections, such as Hibernate's {@code PersistentBag} and
+ * {@code PersistentSet}, which are not meant to be created detached;</li>
+ * <li>the public no-arg constructor of the class.</li>
+ * </ol>
+ * A concrete class is never created by the factory of a concrete superclass,
+ * other than an ORM collection, so that a subclass of e.g. {@code ArrayList}
+ * without a public no-arg constructor can't be instantiated until its factory
+ * is registered, rather than being silently copied to an {@code ArrayList}.
+ */
+public final class CollectionFactories {
+
+    private static final Map<Class<?>, CollectionFactory> REGISTERED = new ConcurrentHashMap<>();
+
+    /**
+     * Factories of classes which may not be loaded, by class name.
+     */
+    private static final Map<String, CollectionFactory> NAMED = new HashMap<>();
+
+    private static final ClassValue<CollectionFactory> FACTORIES = new ClassValue<CollectionFactory>() {
+
+        @Override
+        protected CollectionFactory computeValue(Class<?> collectionClass) {
+            return resolve(collectionClass);
+        }
+
+    };
+
+    static {
+        register(ArrayList.class, ArrayList::new);
+        register(LinkedList.class, expectedSize -> new LinkedList<>());
+        register(Vector.class, expectedSize -> new Vector<>(Math.max(expectedSize, 1)));
+        register(HashSet.class, expectedSize -> new HashSet<>(hashCapacity(expectedSize)));
+        register(LinkedHashSet.class, expectedSize -> new LinkedHashSet<>(hashCapacity(expectedSize)));
+        register(TreeSet.class, expectedSize -> new TreeSet<>());
+        register(ArrayDeque.class, ArrayDeque::new);
+        register(PriorityQueue.class, expectedSize -> new PriorityQueue<>(Math.max(expectedSize, 1)));
+        register(CopyOnWriteArrayList.class, expectedSize -> new CopyOnWriteArrayList<>());
+
+        register(Collection.class, ArrayList::new);
+        register(List.class, ArrayList::new);
+        register(Set.class, expectedSize -> new LinkedHashSet<>(hashCapacity(expectedSize)));
+        register(AbstractList.class, ArrayList::new);
+        register(AbstractSet.class, expectedSize -> new LinkedHashSet<>(hashCapacity(expectedSize)));
+        register(SortedSet.class, expectedSize -> new TreeSet<>());
+        register(NavigableSet.class, expectedSize -> new TreeSet<>());
+        register(Queue.class, ArrayDeque::new);
+        register(Deque.class, ArrayDeque::new);
+
+        for (String packageName : new String[] { "org.hibernate.collection.internal.",
+                "org.hibernate.collection.spi." }) {
+            NAMED.put(packageName + "PersistentBag", ArrayList::new);
+            NAMED.put(packageName + "PersistentIdentifierBag", ArrayList::new);
+            NAMED.put(packageName + "PersistentList", ArrayList::new);
+            NAMED.put(packageName + "PersistentSet", expectedSize -> new HashSet<>(hashCapacity(expectedSize)));
+            NAMED.put(packageName + "PersistentSortedSet", expectedSize -> new TreeSet<>());
+        }
+        NAMED.put("org.eclipse.persistence.indirection.IndirectList", ArrayList::new);
+        NAMED.put("org.eclipse.persistence.indirection.IndirectSet",
+                expectedSize -> new HashSet<>(hashCapacity(expectedSize)));
+    }
+
+    private CollectionFactories() {
+    }
+
+    /**
+     * Registers the factory of a collection class, which is also used for its
+     * subclasses without a factory of their own if the class is abstract.
+     * <p>
+     * Factories should be registered before the class is first copied, since
+     * subclasses which are already resolved keep their factory.
+     *
+     * @param collectionClass the collection class
+     * @param factory         the factory
+     */
+    @SuppressWarnings("rawtypes")
+    public static void register(Class<? extends Collection> collectionClass, CollectionFactory factory) {
+        if (collectionClass == null || factory == null) {
+            throw new IllegalArgumentException("Collection class and factory must not be null");
+        }
+        REGISTERED.put(collectionClass, factory);
+        FACTORIES.remove(collectionClass);
+    }
+
+    /**
+     * Returns the factory of a collection class.
+     *
+     * @param collectionClass the collection class
+     * @return the factory, or {@code null} if the class can't be instantiated
+     */
+    public static CollectionFactory get(Class<?> collectionClass) {
+        return FACTORIES.get(collectionClass);
+    }
+
+    /**
+     * Creates a collection of the given class.
+     *
+     * @param collectionClass the collection class
+     * @param expectedSize    the number of elements to be added
+     * @return the new collection
+     * @throws InstantiationException if the class can't be instantiated
+     */
+    public static Collection<Object> create(Class<?> collectionClass, int expectedSize) {
+        CollectionFactory factory = FACTORIES.get(collectionClass);
+        if (factory == null) {
+            throw new InstantiationException("Failed to instantiate class: " + collectionClass.getName(), null);
+        }
+        return factory.create(expectedSize);
+    }
+
+    private static CollectionFactory resolve(Class<?> collectionClass) {
+        boolean concrete = !Modifier.isAbstract(collectionClass.getModifiers());
+        for (Class<?> type = collectionClass; type != null; type = type.getSuperclass()) {
+            if (concrete && type != collectionClass && !Modifier.isAbstract(type.getModifiers())) {
+                return NAMED.get(type.getName());
+            }
+            CollectionFactory factory = REGISTERED.get(type);
+            if (factory == null) {
+                factory = NAMED.get(type.getName());
+            }
+            if (factory != null) {
+                return factory;
+            }
+            if (type == collectionClass && concrete) {
+                factory = getConstructorFactory(type);
+                if (factory != null) {
+                    return factory;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a factory calling the public no-arg constructor of the class.
+     */
+    @SuppressWarnings("unchecked")
+    private static CollectionFactory getConstructorFactory(Class<?> collectionClass) {
+        MethodHandle constructor = findConstructor(collectionClass);
+        if (constructor == null) {
+            return null;
+        }
+        return expectedSize -> (Collection<Object>) newInstance(constructor, collectionClass);
+    }
+
+    /**
+     * Finds the public no-arg constructor of a class.
+     *
+     * @return the constructor of type {@code ()Object}, or {@code null} if there
+     *         is none
+     */
+    static MethodHandle findConstructor(Class<?> type) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static Object newInstance(MethodHandle constructor, Class<?> type) {
+        try {
+            return constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InstantiationException("Failed to instantiate class: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the initial capacity of a hash based collection holding the
+     * expected number of elements without resizing.
+     */
+    static int hashCapacity(int expectedSize) {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / 0.75f) + 1);
+    }
+
+}
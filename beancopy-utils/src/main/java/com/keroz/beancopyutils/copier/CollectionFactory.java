@@ -0,0 +1,18 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.Collection;
+
+/**
+ * Creates empty target collections, see {@link CollectionFactories}.
+ */
+@FunctionalInterface
+public interface CollectionFactory {
+
+    /**
+     * @param expectedSize the number of elements to be added, which the
+     *                     collection may be sized for
+     * @return a new empty collection
+     */
+    Collection<Object> create(int expectedSize);
+
+}
@@ -0,0 +1,184 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+
+/**
+ * Copies beans, collections, maps and arrays.
+ * <p>
+ * Implementations implement the methods taking {@link CopyOptions}. The
+ * overloads taking an {@link IgnorePolicy} and ignore conditions were abstract
+ * before and are now default methods delegating to those, so implementations
+ * written against them need to implement the {@code CopyOptions} methods
+ * instead.
+ */
+public interface Copier {
+
+    <Source, Target> Target copy(Source source, Class<Target> targetClass, CopyOptions options);
+
+    <Source, Target> Target copy(Source source, Target target, CopyOptions options);
+
+    Object copyArray(Object sourceArray, Class<?> targetComponentClass, CopyOptions options);
+
+    <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options);
+
+    /**
+     * Copies a map, copying its keys and values to the given classes. Immutable
+     * keys and values are shared.
+     */
+    <SourceKey, SourceValue, TargetKey, TargetValue, TargetMap extends Map<TargetKey, TargetValue>> TargetMap copyMap(
+            Map<SourceKey, SourceValue> sourceMap, Class<TargetKey> targetKeyClass,
+            Class<TargetValue> targetValueClass, Supplier<TargetMap> supplier, CopyOptions options);
+
+    /**
+     * Returns a function copying sources into new instances of the target class,
+     * e.g. to map a stream. The metadata of the target class is resolved once up
+     * front rather than per element.
+     *
+     * @param targetClass the target class
+     * @param options     the copy options
+     * @return the function, which may be shared among threads
+     */
+    default <Source, Target> Function<Source, Target> copying(Class<Target> targetClass, CopyOptions options) {
+        return source -> copy(source, targetClass, options);
+    }
+
+    /**
+     * Returns a mapper copying instances of the source class to the target class
+     * with the given options. The metadata of the pair is resolved once, when the
+     * mapper is created, rather than per copy.
+     *
+     * @param sourceClass the source class
+     * @param targetClass the target class
+     * @param options     the copy options
+     * @return the mapper, which may be shared among threads
+     */
+    default <Source, Target> Mapper<Source, Target> mapper(Class<Source> sourceClass, Class<Target> targetClass,
+            CopyOptions options) {
+        return new Mapper<Source, Target>() {
+
+            @Override
+            public Target map(Source source) {
+                return copy(source, targetClass, options);
+            }
+
+            @Override
+            public Target map(Source source, Target target) {
+                return copy(source, target, options);
+            }
+
+        };
+    }
+
+    /**
+     * Prepares copying from the source class to the target class up front, e.g.
+     * at startup, so that the first copies don't pay for resolving the metadata
+     * of the pair. The pairs of nested beans, and of the elements of nested
+     * collections, maps and arrays, are prepared as well, as far as their
+     * declared types tell.
+     * <p>
+     * Copiers which resolve nothing up front do nothing.
+     *
+     * @param sourceClass the source class
+     * @param targetClass the target class
+     */
+    default void prepare(Class<?> sourceClass, Class<?> targetClass) {
+    }
+
+    /**
+     * Returns the pairs which {@link #prepare(Class, Class)} prepares along with
+     * the given pair, without preparing any of them, e.g. to avoid preparing a
+     * nested pair on its own as well.
+     *
+     * @param sourceClass the source class
+     * @param targetClass the target class
+     * @return the nested pairs, the pair itself excluded
+     */
+    default Set<ClassPair> getNestedPairs(Class<?> sourceClass, Class<?> targetClass) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Starts or stops recording the pairs of classes copied, nested ones
+     * included, to be prepared at the next startup, see {@link ClassPairs}.
+     * Pairs are recorded the first time they're copied, so recording should be
+     * started before copying.
+     *
+     * @param recording whether to record
+     * @throws UnsupportedOperationException if the copier doesn't record
+     */
+    default void setRecording(boolean recording) {
+        throw new UnsupportedOperationException("Recording is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Returns the pairs of classes recorded, in the order first copied.
+     *
+     * @return the pairs
+     */
+    default Set<ClassPair> getRecordedPairs() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Copies a collection, splitting it across threads once it's at least as
+     * large as the threshold. The encounter order of the source is preserved.
+     * <p>
+     * Copiers which do not support parallel copying copy sequentially.
+     */
+    default <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollectionParallel(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier, CopyOptions options, ParallelOptions parallelOptions) {
+        return copyCollection(sourceCollection, targetComponentClass, supplier, options);
+    }
+
+    /**
+     * Copies an array, splitting it across threads once it's at least as large as
+     * the threshold.
+     * <p>
+     * Copiers which do not support parallel copying copy sequentially.
+     */
+    default Object copyArrayParallel(Object sourceArray, Class<?> targetComponentClass, CopyOptions options,
+            ParallelOptions parallelOptions) {
+        return copyArray(sourceArray, targetComponentClass, options);
+    }
+
+    default <Source, Target> Target copy(Source source, Class<Target> targetClass, IgnorePolicy ignorePolicy,
+            Class<?>[] ignoreConditions) {
+        return copy(source, targetClass, CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    default <Source, Target> Target copy(Source source, Target target, IgnorePolicy ignorePolicy,
+            Class<?>[] ignoreConditions) {
+        return copy(source, target, CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    default Object copyArray(Object sourceArray, Class<?> targetComponentClass, IgnorePolicy ignorePolicy,
+            Class<?>[] ignoreConditions) {
+        return copyArray(sourceArray, targetComponentClass, CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    default <SourceComponent, TargetComponent, SourceCollection extends Collection<SourceComponent>, TargetCollection extends Collection<TargetComponent>> TargetCollection copyCollection(
+            SourceCollection sourceCollection, Class<TargetComponent> targetComponentClass,
+            Supplier<TargetCollection> supplier,
+            IgnorePolicy ignorePolicy, Class<?>[] ignoreConditions) {
+        return copyCollection(sourceCollection, targetComponentClass, supplier,
+                CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+
+    default <SourceKey, SourceValue, TargetKey, TargetValue, TargetMap extends Map<TargetKey, TargetValue>> TargetMap copyMap(
+            Map<SourceKey, SourceValue> sourceMap, Class<TargetKey> targetKeyClass,
+            Class<TargetValue> targetValueClass, Supplier<TargetMap> supplier,
+            IgnorePolicy ignorePolicy, Class<?>[] ignoreConditions) {
+        return copyMap(sourceMap, targetKeyClass, targetValueClass, supplier,
+                CopyOptions.of(ignorePolicy, ignoreConditions));
+    }
+}
@@ -0,0 +1,163 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+
+/**
+ * Helper methods to evaluate {@link CopyIgnore}, shared by copiers and by
+ * copiers generated at compile time.
+ */
+public final class CopyIgnoreSupport {
+
+    private CopyIgnoreSupport() {
+    }
+
+    /**
+     * Evaluates the groups and the legacy {@code when}/{@code except} conditions
+     * of a {@link CopyIgnore}, without its supplier method.
+     *
+     * @param copyIgnore       the annotation, may be {@code null}
+     * @param ignoreConditions conditions given when copying
+     * @return {@code true} if the field is ignored
+     */
+    public static boolean isIgnored(CopyIgnore copyIgnore, Class<?>[] ignoreConditions) {
+        boolean ignored = false;
+        if (copyIgnore == null) {
+            return ignored;
+        }
+        Class<?>[] exceptionGroups = copyIgnore.exceptionGroups();
+        if (exceptionGroups.length > 0) {
+            boolean groupMatched = isGroupMatched(exceptionGroups, ignoreConditions);
+            ignored = copyIgnore.defaultIgnored() ? !groupMatched : groupMatched;
+        } else {
+            // handle as legacy conditions
+            Class<?>[] whenConditions = copyIgnore.when();
+            Class<?>[] exceptConditions = copyIgnore.except();
+
+            if (whenConditions.length > 0) {
+                ignored = hasCondition(whenConditions, ignoreConditions);
+            }
+            if (exceptConditions.length > 0) {
+                ignored = !hasCondition(exceptConditions, ignoreConditions);
+            }
+        }
+        return ignored;
+    }
+
+    /**
+     * Checks if any of the legacy {@code when}/{@code except} conditions is
+     * given.
+     *
+     * @param annotationValue  conditions declared on the annotation
+     * @param ignoreConditions conditions given when copying
+     * @return {@code true} if any of the declared conditions is given
+     */
+    public static boolean hasCondition(Class<?>[] annotationValue, Class<?>[] ignoreConditions) {
+        if (ignoreConditions == null || ignoreConditions.length == 0) {
+            return false;
+        }
+        for (Class<?> s1 : annotationValue) {
+            for (Class<?> s2 : ignoreConditions) {
+                if (s1.equals(s2)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any of the given groups is (a sub type of) one of the exception
+     * groups.
+     *
+     * @param exceptionGroups exception groups declared on the annotation
+     * @param givenGroups     groups given when copying
+     * @return {@code true} if any of the given groups matches
+     */
+    public static boolean isGroupMatched(Class<?>[] exceptionGroups, Class<?>[] givenGroups) {
+        if (givenGroups == null || givenGroups.length == 0) {
+            return false;
+        }
+
+        for (Class<?> supportedGroup : exceptionGroups) {
+            for (Class<?> givenGroup : givenGroups) {
+                if (supportedGroup.isAssignableFrom(givenGroup)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any of the legacy conditions is given in the options, see
+     * {@link #hasCondition(Class[], Class[])}.
+     */
+    public static boolean hasCondition(Class<?>[] annotationValue, CopyOptions options) {
+        return hasCondition(annotationValue, options.ignoreConditions());
+    }
+
+    /**
+     * Checks if any of the groups given in the options matches, see
+     * {@link #isGroupMatched(Class[], Class[])}.
+     */
+    public static boolean isGroupMatched(Class<?>[] exceptionGroups, CopyOptions options) {
+        return isGroupMatched(exceptionGroups, options.ignoreConditions());
+    }
+
+    /**
+     * Checks if the given value should be ignored according to the ignore
+     * policies.
+     *
+     * @param value              the value to check
+     * @param ignorePolicyOnField the policy declared on the field, which has a
+     *                            higher priority unless it's
+     *                            {@link IgnorePolicy#DEFAULT}, may be
+     *                            {@code null}
+     * @param ignorePolicy       the policy given when copying, may be
+     *                            {@code null}
+     * @return {@code true} if the value should be ignored
+     */
+    @SuppressWarnings("rawtypes")
+    public static boolean shouldIgnoreNullOrEmpty(Object value, IgnorePolicy ignorePolicyOnField,
+            IgnorePolicy ignorePolicy) {
+        boolean ignore = false;
+        if (ignorePolicyOnField != null && ignorePolicyOnField != IgnorePolicy.DEFAULT) {
+            ignorePolicy = ignorePolicyOnField;
+        }
+        if (ignorePolicy != null) {
+            switch (ignorePolicy) {
+                case EMPTY: {
+                    if (value == null) {
+                        ignore = true;
+                    } else if (value instanceof String) {
+                        ignore = ((String) value).isEmpty();
+                    } else if (value instanceof Collection) {
+                        ignore = ((Collection) value).isEmpty();
+                    } else if (value instanceof Map) {
+                        ignore = ((Map) value).isEmpty();
+                    } else if (value.getClass().isArray()) {
+                        ignore = Array.getLength(value) == 0;
+                    } else if (value instanceof Number) {
+                        ignore = ((Number) value).equals(0);
+                    }
+                    break;
+                }
+                case NULL: {
+                    if (value == null) {
+                        ignore = true;
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
+        return ignore;
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+
+/**
+ * The options of a copy, that's the ignore policy, the ignore conditions
+ * (groups), and whether identities are preserved.
+ * <p>
+ * Options are immutable and compared by content. A copy plan resolves which of
+ * its fields are ignored only once for equal ignore conditions, so frequently
+ * used combinations are best kept in constants:
+ *
+ * <pre>
+ * private static final CopyOptions PUBLIC_VIEW = CopyOptions.of(IgnorePolicy.NULL, PublicView.class);
+ * </pre>
+ */
+public final class CopyOptions {
+
+    private static final Class<?>[] NO_CLASSES = new Class<?>[0];
+    private static final Conditions NO_CONDITIONS = new Conditions(NO_CLASSES);
+
+    /**
+     * No ignore policy and no ignore conditions.
+     */
+    public static final CopyOptions DEFAULT = new CopyOptions(null, NO_CONDITIONS, false);
+
+    /**
+     * Options without ignore conditions, by ignore policy, see
+     * {@link #indexOf(IgnorePolicy)}.
+     */
+    private static final CopyOptions[] WITHOUT_CONDITIONS = newOptionsByPolicy(NO_CONDITIONS);
+
+    /**
+     * Options with a single ignore condition, by ignore policy, attached to the
+     * condition. The legacy {@code IgnorePolicy}/{@code Class[]} overloads, which
+     * generated copiers call for nested copies, get these without allocating.
+     */
+    private static final ClassValue<CopyOptions[]> WITH_SINGLE_CONDITION = new ClassValue<CopyOptions[]>() {
+
+        @Override
+        protected CopyOptions[] computeValue(Class<?> condition) {
+            return newOptionsByPolicy(new Conditions(new Class<?>[] { condition }));
+        }
+
+    };
+
+    private final IgnorePolicy ignorePolicy;
+    private final Conditions ignoreConditions;
+    private final boolean identityPreserved;
+    private final int hashCode;
+
+    private CopyOptions(IgnorePolicy ignorePolicy, Conditions ignoreConditions, boolean identityPreserved) {
+        this.ignorePolicy = ignorePolicy;
+        this.ignoreConditions = ignoreConditions;
+        this.identityPreserved = identityPreserved;
+        this.hashCode = 31 * (31 * (ignorePolicy != null ? ignorePolicy.hashCode() : 0)
+                + ignoreConditions.hashCode()) + Boolean.hashCode(identityPreserved);
+    }
+
+    public static CopyOptions of(IgnorePolicy ignorePolicy, Class<?>... ignoreConditions) {
+        if (ignoreConditions == null || ignoreConditions.length == 0) {
+            return WITHOUT_CONDITIONS[indexOf(ignorePolicy)];
+        }
+        if (ignoreConditions.length == 1 && ignoreConditions[0] != null) {
+            return WITH_SINGLE_CONDITION.get(ignoreConditions[0])[indexOf(ignorePolicy)];
+        }
+        return new CopyOptions(ignorePolicy, normalize(ignoreConditions), false);
+    }
+
+    private static CopyOptions[] newOptionsByPolicy(Conditions ignoreConditions) {
+        IgnorePolicy[] ignorePolicies = IgnorePolicy.values();
+        CopyOptions[] options = new CopyOptions[ignorePolicies.length + 1];
+        options[0] = ignoreConditions == NO_CONDITIONS ? DEFAULT : new CopyOptions(null, ignoreConditions, false);
+        for (IgnorePolicy ignorePolicy : ignorePolicies) {
+            options[indexOf(ignorePolicy)] = new CopyOptions(ignorePolicy, ignoreConditions, false);
+        }
+        return options;
+    }
+
+    private static int indexOf(IgnorePolicy ignorePolicy) {
+        return ignorePolicy != null ? ignorePolicy.ordinal() + 1 : 0;
+    }
+
+    public static CopyOptions of(Class<?>... ignoreConditions) {
+        return of(null, ignoreConditions);
+    }
+
+    public CopyOptions withIgnorePolicy(IgnorePolicy ignorePolicy) {
+        return ignorePolicy == this.ignorePolicy ? this
+                : new CopyOptions(ignorePolicy, ignoreConditions, identityPreserved);
+    }
+
+    public CopyOptions withIgnoreConditions(Class<?>... ignoreConditions) {
+        return new CopyOptions(ignorePolicy, normalize(ignoreConditions), identityPreserved);
+    }
+
+    /**
+     * Returns options preserving identities or not. A copy preserving identities
+     * copies each distinct source instance to exactly one target instance per
+     * target class, so that shared references stay shared and cyclic references
+     * don't overflow the stack.
+     * <p>
+     * Identities are preserved within a call to the copier, including nested
+     * copies, but not across the elements of a lazy list or a stream. Parallel
+     * copies preserving identities are sequential.
+     *
+     * @param identityPreserved whether identities are preserved
+     * @return new options preserving identities or not
+     */
+    public CopyOptions withIdentityPreserved(boolean identityPreserved) {
+        return identityPreserved == this.identityPreserved ? this
+                : new CopyOptions(ignorePolicy, ignoreConditions, identityPreserved);
+    }
+
+    public IgnorePolicy getIgnorePolicy() {
+        return ignorePolicy;
+    }
+
+    public Class<?>[] getIgnoreConditions() {
+        return ignoreConditions.classes.clone();
+    }
+
+    public boolean isIdentityPreserved() {
+        return identityPreserved;
+    }
+
+    /**
+     * Returns the ignore conditions without copying them, must not be modified.
+     */
+    Class<?>[] ignoreConditions() {
+        return ignoreConditions.classes;
+    }
+
+    /**
+     * Returns the ignore conditions as a key, which options differing only in
+     * their policy or in preserving identities share.
+     */
+    Conditions conditionsKey() {
+        return ignoreConditions;
+    }
+
+    /**
+     * Removes duplicated and {@code null} conditions, and sorts them so that the
+     * same conditions given in a different order make equal options.
+     */
+    private static Conditions normalize(Class<?>[] ignoreConditions) {
+        if (ignoreConditions == null || ignoreConditions.length == 0) {
+            return NO_CONDITIONS;
+        }
+        if (isNormalized(ignoreConditions)) {
+            return new Conditions(ignoreConditions.clone());
+        }
+        LinkedHashSet<Class<?>> conditions = new LinkedHashSet<>(Arrays.asList(ignoreConditions));
+        conditions.remove(null);
+        if (conditions.isEmpty()) {
+            return NO_CONDITIONS;
+        }
+        Class<?>[] normalized = conditions.toArray(NO_CLASSES);
+        Arrays.sort(normalized, Comparator.comparing(Class::getName));
+        return new Conditions(normalized);
+    }
+
+    /**
+     * Checks if the conditions are already sorted, unique and not {@code null}.
+     */
+    private static boolean isNormalized(Class<?>[] ignoreConditions) {
+        for (int i = 0; i < ignoreConditions.length; i++) {
+            if (ignoreConditions[i] == null
+                    || i > 0 && ignoreConditions[i - 1].getName().compareTo(ignoreConditions[i].getName()) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CopyOptions)) {
+            return false;
+        }
+        CopyOptions other = (CopyOptions) obj;
+        return hashCode == other.hashCode && ignorePolicy == other.ignorePolicy
+                && identityPreserved == other.identityPreserved
+                && ignoreConditions.equals(other.ignoreConditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CopyOptions(ignorePolicy=" + ignorePolicy + ", ignoreConditions="
+                + Arrays.toString(ignoreConditions.classes) + ", identityPreserved=" + identityPreserved + ")";
+    }
+
+    /**
+     * Normalized ignore conditions, compared by content.
+     */
+    static final class Conditions {
+
+        private final Class<?>[] classes;
+        private final int hashCode;
+
+        Conditions(Class<?>[] classes) {
+            this.classes = classes;
+            this.hashCode = Arrays.hashCode(classes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Conditions)) {
+                return false;
+            }
+            Conditions other = (Conditions) obj;
+            return hashCode == other.hashCode && Arrays.equals(classes, other.classes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,891 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.esotericsoftware.reflectasm.MethodAccess;
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.converter.Converter;
+import com.keroz.beancopyutils.converter.ConverterFactory;
+import com.keroz.beancopyutils.converter.Converters;
+import com.keroz.beancopyutils.copier.FieldTransfers.FieldTransfer;
+import com.keroz.beancopyutils.exception.InstantiationException;
+import com.keroz.beancopyutils.reflection.ExtendedField;
+import com.keroz.beancopyutils.reflection.FieldAccessors;
+import com.keroz.beancopyutils.reflection.Instantiators;
+import com.keroz.beancopyutils.reflection.PropertyConstructor;
+import com.keroz.beancopyutils.reflection.ReflectionUtils;
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+import com.keroz.beancopyutils.reflection.TypeInfo;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The default copier used by {@code BeanCopyUtils}.
+ * <p>
+ * This copier class uses a mechanism of field readers and field writers. For
+ * each field there is a field reader and a field writer, which will be cached.
+ * A field reader or a field writer will be generated only when it's needed,
+ * that's to say, a field reader/writer is generated only when getting/setting
+ * its value.
+ * <p>
+ * For each pair of source class and target class, the matched field readers
+ * and writers are compiled into a {@link DefaultCopyPlan}, so that copying
+ * does not need to look them up by name again. Target classes without a no-arg
+ * constructor are built through the constructor taking the values of their
+ * fields instead, see {@link ConstructorCopyPlan}.
+ *
+ */
+@Slf4j
+public class DefaultCopier extends AbstractCachedCopier {
+
+    /**
+     * A reader for a certain filed in a source class.
+     */
+    private static interface FieldReader {
+        /**
+         * Reads the field value from a source object.
+         *
+         * @param source the source object to read from
+         * @return the field value
+         */
+        Object read(Object source);
+    }
+
+    /**
+     * A writer for a certain filed in a target class.
+     */
+    private static interface FieldWriter {
+        /**
+         * Writes the field value into a target object.
+         *
+         * @param target      the target object to write into
+         * @param source      the source object to read from
+         * @param fieldReader the field reader for the field
+         * @param options     the copy options
+         */
+        void write(Object target, Object source, FieldReader fieldReader, CopyOptions options);
+    }
+
+    /**
+     * A reader for a certain argument of the constructor of a target class.
+     */
+    private static interface ArgumentReader {
+        /**
+         * Reads the argument from a source object, copied to the type of the
+         * parameter.
+         *
+         * @param source  the source object to read from
+         * @param options the copy options
+         * @return the argument
+         */
+        Object read(Object source, CopyOptions options);
+    }
+
+    /**
+     * Placeholder for a field which has no field reader, so that it won't be
+     * generated again.
+     */
+    private static final FieldReader NO_FIELD_READER = (s) -> null;
+
+    /**
+     * The handle of {@link ArgumentReader#read}, to be bound to a reader.
+     */
+    private static final MethodHandle READ_ARGUMENT;
+
+    static {
+        try {
+            READ_ARGUMENT = MethodHandles.lookup().findVirtual(ArgumentReader.class, "read",
+                    MethodType.methodType(Object.class, Object.class, CopyOptions.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The field readers and writers are kept in immutable maps, which are
+     * replaced as a whole (by CAS) when a new one is generated. Thus reads never
+     * need a lock and always see a fully built map.
+     */
+    @Data
+    protected static class DefaultCache extends AbstractCachedCopier.Cache {
+
+        private MethodAccess methodAccess;
+        private List<ExtendedField> fields;
+        private AtomicReference<Map<String, FieldReader>> fieldReaderMap = new AtomicReference<>(
+                Collections.emptyMap());
+        private AtomicReference<Map<String, FieldWriter>> fieldWriterMap = new AtomicReference<>(
+                Collections.emptyMap());
+
+        public DefaultCache(Class<?> clazz) {
+            super(clazz);
+            this.methodAccess = MethodAccess.get(clazz);
+            this.fields = ReflectionUtils.getAllValidFieldWrappers(clazz);
+        }
+
+        FieldReader getFieldReader(String fieldName) {
+            return fieldReaderMap.get().get(fieldName);
+        }
+
+        FieldReader putFieldReader(String fieldName, FieldReader fieldReader) {
+            return putIfAbsent(fieldReaderMap, fieldName, fieldReader);
+        }
+
+        FieldWriter getFieldWriter(String fieldName) {
+            return fieldWriterMap.get().get(fieldName);
+        }
+
+        FieldWriter putFieldWriter(String fieldName, FieldWriter fieldWriter) {
+            return putIfAbsent(fieldWriterMap, fieldName, fieldWriter);
+        }
+
+        /**
+         * Publishes a copy of the current map with the given entry added, unless
+         * another thread has already published one for the same key.
+         *
+         * @return the value in the published map
+         */
+        private static <V> V putIfAbsent(AtomicReference<Map<String, V>> mapRef, String key, V value) {
+            for (;;) {
+                Map<String, V> current = mapRef.get();
+                V existing = current.get(key);
+                if (existing != null) {
+                    return existing;
+                }
+                Map<String, V> updated = new HashMap<>(current);
+                updated.put(key, value);
+                if (mapRef.compareAndSet(current, Collections.unmodifiableMap(updated))) {
+                    return value;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A step to copy a certain target field, with the matched source field reader
+     * already resolved, or with a {@link FieldTransfer} from getter to setter for
+     * values which need no copying.
+     */
+    static final class CopyStep {
+
+        private final ExtendedField targetField;
+        private final FieldTransfer transfer;
+        private final boolean ignorable;
+        private final IgnoreSupplier ignoreSupplier;
+
+        CopyStep(ExtendedField targetField, FieldReader fieldReader, FieldWriter fieldWriter) {
+            this(targetField, (target, source, options) -> fieldWriter.write(target, source, fieldReader, options));
+        }
+
+        CopyStep(ExtendedField targetField, FieldTransfer transfer) {
+            this.targetField = targetField;
+            this.transfer = transfer;
+            this.ignorable = targetField.getCopyIgnore() != null;
+            this.ignoreSupplier = ignorable && !targetField.getCopyIgnore().supplierMethod().isEmpty()
+                    ? IgnoreSupplier.resolve(targetField, false)
+                    : null;
+        }
+
+        ExtendedField getTargetField() {
+            return this.targetField;
+        }
+
+        boolean isIgnorable() {
+            return this.ignorable;
+        }
+
+        /**
+         * Decides whether to skip this step, the ignore conditions having already
+         * been evaluated.
+         */
+        boolean shouldIgnore(Object target, Object source, boolean ignored) {
+            return ignoreSupplier != null ? ignoreSupplier.shouldIgnore(target, source, ignored) : ignored;
+        }
+
+        void apply(Object target, Object source, CopyOptions options) {
+            transfer.transfer(target, source, options);
+        }
+
+    }
+
+    /**
+     * A copy plan consisting of a flat array of steps. Target fields without a
+     * matched source field have already been dropped.
+     * <p>
+     * Which steps are ignored under certain ignore conditions is evaluated once
+     * and kept as a bit set per ignore conditions, whatever the ignore policy.
+     */
+    protected static class DefaultCopyPlan extends AbstractCachedCopier.CopyPlan {
+
+        /**
+         * Beyond this number of distinct ignore conditions, the ignored steps are
+         * evaluated on every copy instead of being kept.
+         */
+        private static final int MAXIMUM_CACHED_OPTIONS = 64;
+
+        private final CopyStep[] steps;
+        private final boolean ignorable;
+        private final ConcurrentHashMap<CopyOptions.Conditions, BitSet> ignoredSteps = new ConcurrentHashMap<>();
+
+        DefaultCopyPlan(Class<?> sourceClass, Class<?> targetClass, CopyStep[] steps) {
+            super(sourceClass, targetClass);
+            this.steps = steps;
+            this.ignorable = Arrays.stream(steps).anyMatch(CopyStep::isIgnorable);
+        }
+
+        @Override
+        public void copy(Object source, Object target, CopyOptions options) {
+            if (!ignorable) {
+                for (CopyStep step : steps) {
+                    step.apply(target, source, options);
+                }
+                return;
+            }
+            BitSet ignored = getIgnoredSteps(options);
+            for (int i = 0; i < steps.length; i++) {
+                CopyStep step = steps[i];
+                if (!step.shouldIgnore(target, source, ignored.get(i))) {
+                    step.apply(target, source, options);
+                }
+            }
+        }
+
+        @Override
+        public BoundCopyPlan bind(CopyOptions options) {
+            if (!ignorable) {
+                return (source, target) -> {
+                    for (CopyStep step : steps) {
+                        step.apply(target, source, options);
+                    }
+                };
+            }
+            BitSet ignored = getIgnoredSteps(options);
+            return (source, target) -> {
+                for (int i = 0; i < steps.length; i++) {
+                    CopyStep step = steps[i];
+                    if (!step.shouldIgnore(target, source, ignored.get(i))) {
+                        step.apply(target, source, options);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Applies a single step, unless it's ignored.
+         *
+         * @param ignored the steps ignored under the options, see
+         *                {@link #getIgnoredSteps}
+         */
+        void apply(int index, Object target, Object source, CopyOptions options, BitSet ignored) {
+            CopyStep step = steps[index];
+            if (!step.isIgnorable() || !step.shouldIgnore(target, source, ignored.get(index))) {
+                step.apply(target, source, options);
+            }
+        }
+
+        boolean isIgnorable() {
+            return this.ignorable;
+        }
+
+        BitSet getIgnoredSteps(CopyOptions options) {
+            CopyOptions.Conditions conditions = options.conditionsKey();
+            BitSet ignored = ignoredSteps.get(conditions);
+            if (ignored == null) {
+                ignored = new BitSet(steps.length);
+                for (int i = 0; i < steps.length; i++) {
+                    if (CopyIgnoreSupport.isIgnored(steps[i].getTargetField().getCopyIgnore(),
+                            options.ignoreConditions())) {
+                        ignored.set(i);
+                    }
+                }
+                if (ignoredSteps.size() < MAXIMUM_CACHED_OPTIONS) {
+                    BitSet existing = ignoredSteps.putIfAbsent(conditions, ignored);
+                    if (existing != null) {
+                        ignored = existing;
+                    }
+                }
+            }
+            return ignored;
+        }
+
+        CopyStep[] getSteps() {
+            return this.steps;
+        }
+
+    }
+
+    /**
+     * A copy plan for a target class without a no-arg constructor, e.g. a record
+     * or a Lombok {@code @Value} class, which is built through the constructor
+     * taking the values of its fields, see {@link PropertyConstructor}. All the
+     * arguments are read from the source in the order of the parameters, and the
+     * constructor is called once through a cached handle. Fields which the
+     * constructor doesn't take are copied by the steps afterwards.
+     * <p>
+     * The handle of the constructor is bound to the readers of its arguments,
+     * see {@link #bindArguments}, so that neither an array of arguments nor,
+     * for primitives read through a getter, a boxed value is allocated.
+     */
+    protected static class ConstructorCopyPlan extends DefaultCopyPlan {
+
+        /**
+         * The constructor bound to the readers of its arguments, of type
+         * {@code (Object,CopyOptions)Object}.
+         */
+        private final MethodHandle constructor;
+
+        ConstructorCopyPlan(Class<?> sourceClass, Class<?> targetClass, CopyStep[] steps, MethodHandle constructor) {
+            super(sourceClass, targetClass, steps);
+            this.constructor = constructor;
+        }
+
+        /**
+         * Binds the handle of a constructor to the readers of its arguments, each
+         * of type {@code (Object,CopyOptions)T} for a parameter of type {@code T}.
+         * One parameter after the other is moved to the front and folded into the
+         * value its reader returns, so the readers are called in order.
+         *
+         * @param constructor the handle of the constructor, of its exact type
+         * @param arguments   the readers of the arguments
+         * @return the handle, of type {@code (Object,CopyOptions)Object}
+         */
+        static MethodHandle bindArguments(MethodHandle constructor, MethodHandle[] arguments) {
+            // (Object,CopyOptions,P0,...,Pn)Object
+            MethodHandle handle = MethodHandles.dropArguments(
+                    constructor.asType(constructor.type().changeReturnType(Object.class)), 0, Object.class,
+                    CopyOptions.class);
+            for (MethodHandle argument : arguments) {
+                MethodType type = handle.type();
+                // (Pi,Object,CopyOptions,Pi+1,...,Pn)Object
+                MethodType newType = type.dropParameterTypes(2, 3).insertParameterTypes(0, type.parameterType(2));
+                int[] reorder = new int[type.parameterCount()];
+                reorder[0] = 1;
+                reorder[1] = 2;
+                reorder[2] = 0;
+                for (int i = 3; i < reorder.length; i++) {
+                    reorder[i] = i;
+                }
+                handle = MethodHandles.foldArguments(MethodHandles.permuteArguments(handle, newType, reorder),
+                        argument);
+            }
+            return handle;
+        }
+
+        @Override
+        public Object newTarget(Object source, CopyOptions options) {
+            try {
+                return constructor.invokeExact(source, options);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InstantiationException("Failed to instantiate class: " + getTargetClass().getName(), e);
+            }
+        }
+
+    }
+
+    public DefaultCopier() {
+        super();
+    }
+
+    /**
+     * @param maximumCacheSize the maximum number of classes, as well as of source
+     *                         classes per target class, to keep in the caches
+     */
+    public DefaultCopier(int maximumCacheSize) {
+        super(maximumCacheSize);
+    }
+
+    @Override
+    public <Source, Target> Target copy(Source source, Target target, CopyOptions options) {
+        copy(source, target, getPlan(source.getClass(), target.getClass()), options);
+        return target;
+    }
+
+    @Override
+    protected CopyPlan newPlanFor(Class<?> sourceClass, Class<?> targetClass) {
+        log.debug(Thread.currentThread().getName() + " is compiling copy plan from " + sourceClass.getName()
+                + " to " + targetClass.getName());
+        DefaultCache srcCache = (DefaultCache) getCache(sourceClass);
+        DefaultCache tarCache = (DefaultCache) getCache(targetClass);
+        List<CopyStep> steps = new ArrayList<>();
+
+        PropertyConstructor propertyConstructor = !Instantiators.isRegistered(targetClass)
+                ? PropertyConstructor.find(targetClass)
+                : null;
+        MethodHandle constructor = null;
+        if (propertyConstructor != null) {
+            try {
+                constructor = propertyConstructor.newHandle();
+            } catch (IllegalAccessException e) {
+                log.warn("Cannot call constructor " + propertyConstructor.getConstructor() + ", "
+                        + targetClass.getName() + " can't be copied to", e);
+            }
+        }
+        Field[] parameterFields = constructor != null ? propertyConstructor.getFields() : new Field[0];
+        List<Field> constructed = Arrays.asList(parameterFields);
+
+        for (ExtendedField targetField : tarCache.getFields()) {
+            if (constructed.contains(targetField.getField())) {
+                continue;
+            }
+            FieldReader fieldReader = getFieldReader(sourceClass, targetField.getAliasFor(), srcCache);
+            if (fieldReader == null) {
+                continue;
+            }
+            FieldTransfer transfer = isDirect(targetField) ? newFieldTransfer(sourceClass, targetClass, targetField)
+                    : null;
+            if (transfer != null) {
+                steps.add(new CopyStep(targetField, transfer));
+            } else {
+                fieldReader = withConverter(fieldReader, getPropertyType(targetField.getAliasFor(), srcCache),
+                        targetField);
+                steps.add(new CopyStep(targetField, fieldReader, getFieldWriter(targetClass, targetField, tarCache)));
+            }
+        }
+
+        if (constructor == null) {
+            return new DefaultCopyPlan(sourceClass, targetClass, steps.toArray(new CopyStep[0]));
+        }
+        MethodHandle[] arguments = new MethodHandle[parameterFields.length];
+        for (int i = 0; i < parameterFields.length; i++) {
+            arguments[i] = newArgumentReader(sourceClass, new ExtendedField(parameterFields[i], targetClass),
+                    srcCache);
+        }
+        return new ConstructorCopyPlan(sourceClass, targetClass, steps.toArray(new CopyStep[0]),
+                ConstructorCopyPlan.bindArguments(constructor, arguments));
+    }
+
+    /**
+     * Creates the reader of the argument of a target field from the source,
+     * which is copied and converted as if the field were written. The default
+     * value of the type of the field is passed instead if the source has no
+     * such property, or if the field is ignored or the value is skipped under
+     * the ignore policy.
+     * <p>
+     * A primitive which needs no conversion is read through the getter of the
+     * source as it is, or widened, since the value skipped under the ignore
+     * policy, an {@code int} zero, is the default value anyway.
+     *
+     * @return the handle of the reader, of type {@code (Object,CopyOptions)T} for
+     *         a field of type {@code T}
+     */
+    private MethodHandle newArgumentReader(Class<?> sourceClass, ExtendedField targetField, DefaultCache srcCache) {
+        Class<?> type = targetField.getType();
+        MethodType readerType = MethodType.methodType(type, Object.class, CopyOptions.class);
+        if (type.isPrimitive() && isDirect(targetField)) {
+            MethodHandle getter = getGetter(sourceClass, targetField.getAliasFor());
+            Class<?> sourceType = getter != null ? getter.type().returnType() : null;
+            if (sourceType != null && sourceType.isPrimitive()
+                    && (sourceType == type || !Converters.isRegistered(sourceType, type))) {
+                try {
+                    return MethodHandles.dropArguments(getter.asType(MethodType.methodType(type, Object.class)), 1,
+                            CopyOptions.class);
+                } catch (WrongMethodTypeException e) {
+                    // e.g. long to int, read as any other argument
+                }
+            }
+        }
+        Object defaultValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        FieldReader fieldReader = getFieldReader(sourceClass, targetField.getAliasFor(), srcCache);
+        if (fieldReader == null) {
+            return MethodHandles.dropArguments(MethodHandles.constant(type, defaultValue), 0,
+                    readerType.parameterList());
+        }
+        FieldReader reader = withConverter(fieldReader, getPropertyType(targetField.getAliasFor(), srcCache),
+                targetField);
+        Converter<?, ?> converter = ConverterFactory.getConverter(targetField.getConverterClass());
+        CopyIgnore copyIgnore = targetField.getCopyIgnore();
+        IgnoreSupplier ignoreSupplier = copyIgnore != null && !copyIgnore.supplierMethod().isEmpty()
+                ? IgnoreSupplier.resolve(targetField, true)
+                : null;
+        ArgumentReader argumentReader = (s, o) -> {
+            boolean ignored = copyIgnore != null && CopyIgnoreSupport.isIgnored(copyIgnore, o.ignoreConditions());
+            if (ignoreSupplier != null ? ignoreSupplier.shouldIgnore(null, s, ignored) : ignored) {
+                return defaultValue;
+            }
+            Object value = handle(s, reader, targetField, converter, o);
+            return value != null && !shouldIgnoreNullOrEmpty(value, targetField, o.getIgnorePolicy()) ? value
+                    : defaultValue;
+        };
+        return READ_ARGUMENT.bindTo(argumentReader).asType(readerType);
+    }
+
+    /**
+     * Checks if the value of a target field needs no copying nor conversion, so
+     * that it may be transferred from the getter to the setter as it is.
+     */
+    static boolean isDirect(ExtendedField targetField) {
+        return targetField.getCopyIgnore() == null && targetField.getConverterClass() == null
+                && targetField.getResolvedType().getGeneralType() == GeneralType.PRIMITIVE;
+    }
+
+    /**
+     * Creates the transfer of a target field from the getter of the source to the
+     * setter of the target, see {@link FieldTransfers}.
+     *
+     * @return the transfer, or {@code null} if either method is missing or the
+     *         types don't match
+     */
+    private static FieldTransfer newFieldTransfer(Class<?> sourceClass, Class<?> targetClass,
+            ExtendedField targetField) {
+        MethodHandle getter = getGetter(sourceClass, targetField.getAliasFor());
+        MethodHandle setter = getter != null ? getSetter(targetClass, targetField) : null;
+        return setter != null ? FieldTransfers.of(getter, setter) : null;
+    }
+
+    /**
+     * Returns the handle of the public getter of a source property, or of its
+     * field if there's no method of the getter's name.
+     */
+    private static MethodHandle getGetter(Class<?> sourceClass, String fieldName) {
+        String methodNameSuffix = getMethodNameSuffix(fieldName);
+        boolean hasReadMethod = false;
+        for (Method method : ReflectionUtils.getAllMethods(sourceClass)) {
+            if (isPublicInstanceMethod(method) && (method.getName().equals("is" + methodNameSuffix)
+                    || method.getName().equals("get" + methodNameSuffix))) {
+                hasReadMethod = true;
+                if (method.getParameterCount() == 0 && !method.isBridge() && method.getReturnType() != void.class) {
+                    return unreflect(method);
+                }
+            }
+        }
+        return hasReadMethod ? null : getFieldGetter(sourceClass, fieldName);
+    }
+
+    /**
+     * Returns the handle of the public setter of a target field, or of the field
+     * itself if there's no method of the setter's name.
+     */
+    private static MethodHandle getSetter(Class<?> targetClass, ExtendedField targetField) {
+        String methodName = "set" + getMethodNameSuffix(targetField.getName());
+        boolean hasWriteMethod = false;
+        for (Method method : ReflectionUtils.getAllMethods(targetClass)) {
+            if (isPublicInstanceMethod(method) && method.getName().equals(methodName)) {
+                hasWriteMethod = true;
+                if (method.getParameterCount() == 1 && !method.isBridge()
+                        && method.getParameterTypes()[0] == targetField.getType()) {
+                    return unreflect(method);
+                }
+            }
+        }
+        return hasWriteMethod ? null : getFieldSetter(targetField);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static boolean isPublicInstanceMethod(Method method) {
+        int modifiers = method.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers);
+    }
+
+    /**
+     * Applies the converter registered in {@link Converters} to the values read,
+     * if the type of the source property is not assignable to the target field,
+     * which has no {@code Converter} of its own.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static FieldReader withConverter(FieldReader fieldReader, Class<?> sourceType, ExtendedField targetField) {
+        Class<?> targetType = targetField.getResolvedType().getRawType();
+        if (sourceType == null || targetField.getConverterClass() != null || isAssignable(targetType, sourceType)) {
+            return fieldReader;
+        }
+        Converter converter = Converters.get(sourceType, targetType);
+        if (converter == null) {
+            return fieldReader;
+        }
+        return s -> {
+            Object value = fieldReader.read(s);
+            return value != null ? converter.convert(value) : null;
+        };
+    }
+
+    private static boolean isAssignable(Class<?> targetType, Class<?> sourceType) {
+        TypeInfo targetTypeInfo = TypeInfo.of(targetType);
+        TypeInfo sourceTypeInfo = TypeInfo.of(sourceType);
+        if (targetTypeInfo.getWrapperType() != null || sourceTypeInfo.getWrapperType() != null) {
+            return targetTypeInfo.getWrapperType() == sourceTypeInfo.getWrapperType();
+        }
+        return targetType.isAssignableFrom(sourceType);
+    }
+
+    /**
+     * Returns the type of a source property, that's the return type of its read
+     * method, or the type of its field.
+     *
+     * @return the type, or {@code null} if there's no such property
+     */
+    private static Class<?> getPropertyType(String fieldName, DefaultCache cache) {
+        MethodAccess methodAccess = cache.getMethodAccess();
+        if (methodAccess != null) {
+            String methodNameSuffix = getMethodNameSuffix(fieldName);
+            String[] methodNames = methodAccess.getMethodNames();
+            for (int i = 0; i < methodNames.length; i++) {
+                if (methodNames[i].equals("is" + methodNameSuffix) || methodNames[i].equals("get" + methodNameSuffix)) {
+                    return methodAccess.getReturnTypes()[i];
+                }
+            }
+        }
+        for (Field field : ReflectionUtils.getAllInstanceFields(cache.getCachedClass())) {
+            if (field.getName().equals(fieldName)) {
+                return field.getType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 从缓存中获取指定字段的读方法, 获取不到则生成
+     *
+     * @param srcClass  源类
+     * @param fieldName 字段名
+     * @return 读方法, 没有对应字段时为{@code null}
+     */
+    private FieldReader getFieldReader(Class<?> srcClass, String fieldName, DefaultCache cache) {
+        FieldReader fieldReader = cache.getFieldReader(fieldName);
+        if (fieldReader == null) {
+            log.debug(Thread.currentThread().getName() + " is generating field reader for " + srcClass.getName()
+                    + "." + fieldName);
+            fieldReader = newFieldReader(srcClass, fieldName, cache.getMethodAccess());
+            fieldReader = cache.putFieldReader(fieldName, fieldReader != null ? fieldReader : NO_FIELD_READER);
+        }
+        return fieldReader != NO_FIELD_READER ? fieldReader : null;
+    }
+
+    private FieldReader newFieldReader(Class<?> srcClass, String fieldName, MethodAccess methodAccess) {
+        FieldReader fieldReader = null;
+        String methodNameSuffix = getMethodNameSuffix(fieldName);
+        boolean hasReadMethod = false;
+        if (methodAccess != null) {
+            String[] methodNames = methodAccess.getMethodNames();
+            int index = -1;
+            for (int i = 0; i < methodNames.length; i++) {
+                if (methodNames[i].equals("is" + methodNameSuffix) || methodNames[i].equals("get" + methodNameSuffix)) {
+                    index = i;
+                    hasReadMethod = true;
+                    break;
+                }
+            }
+            if (index != -1) {
+                final int methodIndex = index;
+                fieldReader = (s) -> methodAccess.invoke(s, methodIndex);
+            }
+        } else {
+            List<Method> methods = ReflectionUtils.getAllMethods(srcClass);
+            for (Method method : methods) {
+                if (method.getName().equals("is" + methodNameSuffix)
+                        || method.getName().equals("get" + methodNameSuffix)) {
+                    fieldReader = (s) -> {
+                        try {
+                            return method.invoke(s);
+                        } catch (InvocationTargetException e) {
+                            throw FieldTransfers.rethrow(e.getCause());
+                        } catch (IllegalAccessException e) {
+                            throw FieldTransfers.rethrow(e);
+                        }
+                    };
+                    hasReadMethod = true;
+                    break;
+                }
+            }
+        }
+        if (!hasReadMethod) {
+            // 没有读方法, 直接通过Field取值
+            MethodHandle getter = getFieldGetter(srcClass, fieldName);
+            if (getter != null) {
+                MethodHandle handle = getter.asType(MethodType.methodType(Object.class, Object.class));
+                fieldReader = (s) -> {
+                    try {
+                        return handle.invokeExact(s);
+                    } catch (Throwable e) {
+                        throw FieldTransfers.rethrow(e);
+                    }
+                };
+            }
+        }
+        return fieldReader;
+    }
+
+    protected static String getMethodNameSuffix(String fieldName) {
+        char[] chars = fieldName.toCharArray();
+        chars[0] = (char) (chars[0] - 32);
+        return new String(chars);
+    }
+
+    private FieldWriter getFieldWriter(Class<?> tarClass, ExtendedField field, DefaultCache cache) {
+        String fieldName = field.getName();
+        FieldWriter fieldWriter = cache.getFieldWriter(fieldName);
+        if (fieldWriter == null) {
+            log.debug(Thread.currentThread().getName() + " is generating field writer for " + tarClass.getName()
+                    + "." + fieldName);
+            fieldWriter = cache.putFieldWriter(fieldName, newFieldWriter(tarClass, field, cache.getMethodAccess()));
+        }
+        return fieldWriter;
+    }
+
+    private FieldWriter newFieldWriter(Class<?> tarClass, final ExtendedField field, MethodAccess methodAccess) {
+
+        FieldWriter fieldWriter = (t, s, r, o) -> {
+        };
+
+        final Converter<?, ?> converter = ConverterFactory.getConverter(field.getConverterClass());
+        String methodNameSuffix = getMethodNameSuffix(field.getName());
+        boolean hasWriteMethod = false;
+        if (methodAccess != null) {
+            String[] methodNames = methodAccess.getMethodNames();
+            int index = -1;
+            for (int i = 0; i < methodNames.length; i++) {
+                if (methodNames[i].equals("set" + methodNameSuffix)) {
+                    index = i;
+                    hasWriteMethod = true;
+                    break;
+                }
+            }
+            if (index != -1) {
+                final int methodIndex = index;
+                fieldWriter = (t, s, r, o) -> {
+                    invokeMethodAccess(methodAccess, methodIndex, t, s, r, field, converter, o);
+                };
+            }
+        } else {
+            List<Method> methods = ReflectionUtils.getAllMethods(tarClass);
+            for (Method method : methods) {
+                if (method.getName().equals("set" + methodNameSuffix)) {
+                    fieldWriter = (t, s, r, o) -> {
+                        invokeSetMethod(method, t, s, r, field, converter, o);
+                    };
+                    hasWriteMethod = true;
+                    break;
+                }
+            }
+        }
+        if (!hasWriteMethod) {
+            MethodHandle setter = getFieldSetter(field);
+            if (setter != null) {
+                MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                fieldWriter = (t, s, r, o) -> {
+                    setFieldValue(handle, t, s, r, field, converter, o);
+                };
+            }
+        }
+        return fieldWriter;
+    }
+
+    @SuppressWarnings(value = { "rawtypes", "unchecked" })
+    private Object handle(Object source, FieldReader fieldReader, ExtendedField targetField, Converter converter,
+            CopyOptions options) {
+        Object result = fieldReader.read(source);
+        if (converter != null) {
+            return converter.convert(result);
+        }
+        return copyValue(result, targetField.getResolvedType(), targetField.getCollectionClass(), options);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void invokeMethodAccess(MethodAccess methodAccess, int methodIndex, Object target, Object source,
+            FieldReader fieldReader, ExtendedField targetField, Converter converter, CopyOptions options) {
+        Object value = handle(source, fieldReader, targetField, converter, options);
+        if (shouldIgnoreNullOrEmpty(value, targetField, options.getIgnorePolicy())) {
+            return;
+        }
+        methodAccess.invoke(target, methodIndex, value);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void invokeSetMethod(Method method, Object target, Object source, FieldReader fieldReader,
+            ExtendedField targetField, Converter converter, CopyOptions options) {
+        Object value = handle(source, fieldReader, targetField, converter, options);
+        if (shouldIgnoreNullOrEmpty(value, targetField, options.getIgnorePolicy())) {
+            return;
+        }
+        try {
+            method.invoke(target, value);
+        } catch (InvocationTargetException e) {
+            throw FieldTransfers.rethrow(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw FieldTransfers.rethrow(e);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void setFieldValue(MethodHandle setter, Object target, Object source, FieldReader fieldReader,
+            ExtendedField targetField, Converter converter, CopyOptions options) {
+        Object value = handle(source, fieldReader, targetField, converter, options);
+        if (shouldIgnoreNullOrEmpty(value, targetField, options.getIgnorePolicy())) {
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw FieldTransfers.rethrow(e);
+        }
+    }
+
+    /**
+     * Returns the handle reading a field of the source class directly, see
+     * {@link FieldAccessors}.
+     *
+     * @return the handle, or {@code null} if there's no such field or it can't be
+     *         accessed
+     */
+    private static MethodHandle getFieldGetter(Class<?> srcClass, String fieldName) {
+        for (Field field : ReflectionUtils.getAllInstanceFields(srcClass)) {
+            if (field.getName().equals(fieldName)) {
+                try {
+                    return FieldAccessors.getter(field);
+                } catch (IllegalAccessException e) {
+                    log.warn("Cannot read field " + field + ", it won't be copied", e);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the handle writing a field of the target class directly, see
+     * {@link FieldAccessors}.
+     *
+     * @return the handle, or {@code null} if the field can't be accessed
+     */
+    private static MethodHandle getFieldSetter(ExtendedField field) {
+        try {
+            return FieldAccessors.setter(field.getField());
+        } catch (IllegalAccessException e) {
+            log.warn("Cannot write field " + field.getField() + ", it won't be copied", e);
+            return null;
+        }
+    }
+
+    @Override
+    protected Cache newCacheFor(Class<?> clazz) {
+        log.debug(Thread.currentThread().getName() + " is initiating cache for " + clazz.getName());
+        return new DefaultCache(clazz);
+    }
+
+}
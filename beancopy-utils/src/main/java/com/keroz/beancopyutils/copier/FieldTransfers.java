@@ -0,0 +1,315 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.converter.Converters;
+import com.keroz.beancopyutils.reflection.TypeInfo;
+
+/**
+ * Transfers of values which need no copying from a getter straight to a
+ * setter, or from field to field if either is missing, through method handles
+ * of the exact types of both. Primitive values are neither boxed nor passed in
+ * a varargs array, so a transfer allocates nothing.
+ */
+final class FieldTransfers {
+
+    /**
+     * A transfer of the value of a certain field from a source to a target.
+     */
+    static interface FieldTransfer {
+
+        void transfer(Object target, Object source, CopyOptions options);
+
+    }
+
+    private FieldTransfers() {
+    }
+
+    /**
+     * Creates the transfer between a getter and a setter, if the value returned
+     * by the getter can be passed to the setter as it is, widened from one
+     * primitive type to another, e.g. {@code int} to {@code long}, or boxed or
+     * unboxed, e.g. {@code int} to {@code Integer}.
+     * <p>
+     * The transfer is chosen by the type of the source, whose value is checked
+     * against the ignore policy like the value a reader returns, see
+     * {@link CopyIgnoreSupport#shouldIgnoreNullOrEmpty}. A primitive value is
+     * boxed or widened by the setter's handle after the check, so it allocates
+     * nothing unless the target holds a wrapper. A wrapper is unboxed by the
+     * setter's handle, which throws a {@code NullPointerException} on
+     * {@code null} as a setter called through {@code MethodAccess} does.
+     *
+     * @param getter the getter of the source, or a handle reading its field
+     * @param setter the setter of the target, or a handle writing its field
+     * @return the transfer, or {@code null} if the types don't match
+     */
+    static FieldTransfer of(MethodHandle getter, MethodHandle setter) {
+        Class<?> sourceType = getter.type().returnType();
+        Class<?> targetType = setter.type().parameterType(1);
+        if (sourceType != targetType && Converters.isRegistered(sourceType, targetType)
+                || !sourceType.isPrimitive() && !targetType.isAssignableFrom(sourceType)
+                        && !(targetType.isPrimitive() && TypeInfo.of(sourceType).getPrimitiveType() != null)) {
+            return null;
+        }
+        MethodHandle getterHandle;
+        MethodHandle setterHandle;
+        try {
+            Class<?> type = sourceType.isPrimitive() ? sourceType : Object.class;
+            // Widening, boxing and unboxing conversions only, others fail
+            getterHandle = getter.asType(MethodType.methodType(type, Object.class));
+            setterHandle = setter.asType(MethodType.methodType(void.class, Object.class, type));
+        } catch (WrongMethodTypeException e) {
+            return null;
+        }
+        if (sourceType == int.class) {
+            return new IntTransfer(getterHandle, setterHandle);
+        } else if (sourceType == long.class) {
+            return new LongTransfer(getterHandle, setterHandle);
+        } else if (sourceType == double.class) {
+            return new DoubleTransfer(getterHandle, setterHandle);
+        } else if (sourceType == float.class) {
+            return new FloatTransfer(getterHandle, setterHandle);
+        } else if (sourceType == boolean.class) {
+            return new BooleanTransfer(getterHandle, setterHandle);
+        } else if (sourceType == short.class) {
+            return new ShortTransfer(getterHandle, setterHandle);
+        } else if (sourceType == byte.class) {
+            return new ByteTransfer(getterHandle, setterHandle);
+        } else if (sourceType == char.class) {
+            return new CharTransfer(getterHandle, setterHandle);
+        }
+        return new ReferenceTransfer(getterHandle, setterHandle);
+    }
+
+    /**
+     * Checks if a zero {@code int} is skipped. Of all numbers only an
+     * {@code Integer} zero is an empty value, see
+     * {@link CopyIgnoreSupport#shouldIgnoreNullOrEmpty}.
+     */
+    private static boolean ignoresZero(CopyOptions options) {
+        return options.getIgnorePolicy() == IgnorePolicy.EMPTY;
+    }
+
+    /**
+     * Rethrows what a getter or a setter threw, wrapping checked exceptions.
+     */
+    static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new UndeclaredThrowableException(e);
+    }
+
+    private static final class IntTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        IntTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                int value = (int) getter.invokeExact(source);
+                if (value != 0 || !ignoresZero(options)) {
+                    setter.invokeExact(target, value);
+                }
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class LongTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        LongTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                long value = (long) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class DoubleTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        DoubleTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                double value = (double) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class FloatTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        FloatTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                float value = (float) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class BooleanTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        BooleanTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                boolean value = (boolean) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class ShortTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        ShortTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                short value = (short) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class ByteTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        ByteTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                byte value = (byte) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    private static final class CharTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        CharTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                char value = (char) getter.invokeExact(source);
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+    /**
+     * Transfers a reference to a value which is shared, e.g. a {@code String},
+     * skipping the boxing and the varargs array of a reflective call.
+     */
+    private static final class ReferenceTransfer implements FieldTransfer {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        ReferenceTransfer(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void transfer(Object target, Object source, CopyOptions options) {
+            try {
+                Object value = getter.invokeExact(source);
+                if (!CopyIgnoreSupport.shouldIgnoreNullOrEmpty(value, null, options.getIgnorePolicy())) {
+                    setter.invokeExact(target, value);
+                }
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+    }
+
+}
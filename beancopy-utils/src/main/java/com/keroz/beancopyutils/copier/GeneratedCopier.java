@@ -0,0 +1,395 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.esotericsoftware.asm.ClassWriter;
+import com.esotericsoftware.asm.MethodVisitor;
+import com.esotericsoftware.asm.Opcodes;
+import com.esotericsoftware.asm.Type;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.converter.Converters;
+import com.keroz.beancopyutils.reflection.ExtendedField;
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A copier which generates, for each pair of source class and target class, a
+ * class with a straight-line {@code copy} method calling getters and setters
+ * directly, so that the JIT can inline them.
+ * <p>
+ * Only fields that can be copied by simply passing the value from a public
+ * getter to a public setter are generated inline, i.e. fields without
+ * {@code CopyIgnore} or {@code Converter}, of a {@link GeneralType#PRIMITIVE
+ * primitive} general type and with assignable types, or primitive types
+ * widened without boxing, e.g. {@code int} to {@code long}. All other fields
+ * are delegated, in declaration order, to the same steps that
+ * {@link DefaultCopier} uses. The generated code is also bypassed when an
+ * {@link IgnorePolicy} which may skip values is given, and if a class can not
+ * be generated for a pair (e.g. a non-public class), the default plan is used
+ * instead, as it is for target classes built through their constructor.
+ *
+ * @see DefaultCopier
+ */
+@Slf4j
+public class GeneratedCopier extends DefaultCopier {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final String PACKAGE = "com/keroz/beancopyutils/copier/generated/";
+
+    /**
+     * The loaders defining the generated classes, by the loader of their target
+     * classes. A generated loader's parent is its key, so it's only weakly
+     * referenced, or it would keep its key from ever being cleared. It's kept
+     * alive by the classes it defined, as long as their plans are cached.
+     */
+    private final Map<ClassLoader, WeakReference<GeneratedClassLoader>> classLoaders = new WeakHashMap<>();
+
+    public GeneratedCopier() {
+        super();
+    }
+
+    /**
+     * @param maximumCacheSize the maximum number of classes, as well as of source
+     *                         classes per target class, to keep in the caches
+     */
+    public GeneratedCopier(int maximumCacheSize) {
+        super(maximumCacheSize);
+    }
+
+    /**
+     * A step which can not be generated inline and is delegated back to the
+     * copier.
+     */
+    public static interface Step {
+
+        /**
+         * @param ignored the steps ignored under the options, resolved once per
+         *                copy, or {@code null} if no step is ignorable
+         */
+        void apply(Object target, Object source, CopyOptions options, BitSet ignored);
+
+    }
+
+    /**
+     * The super class of all generated classes.
+     */
+    public abstract static class PairCopier {
+
+        protected final Step[] steps;
+
+        protected PairCopier(Step[] steps) {
+            this.steps = steps;
+        }
+
+        public abstract void copy(Object source, Object target, CopyOptions options, BitSet ignored);
+
+    }
+
+    protected static class GeneratedCopyPlan extends DefaultCopyPlan {
+
+        private final PairCopier pairCopier;
+
+        GeneratedCopyPlan(DefaultCopyPlan plan, PairCopier pairCopier) {
+            super(plan.getSourceClass(), plan.getTargetClass(), plan.getSteps());
+            this.pairCopier = pairCopier;
+        }
+
+        @Override
+        public void copy(Object source, Object target, CopyOptions options) {
+            IgnorePolicy ignorePolicy = options.getIgnorePolicy();
+            if (ignorePolicy == null || ignorePolicy == IgnorePolicy.NONE || ignorePolicy == IgnorePolicy.DEFAULT) {
+                pairCopier.copy(source, target, options, isIgnorable() ? getIgnoredSteps(options) : null);
+            } else {
+                super.copy(source, target, options);
+            }
+        }
+
+        @Override
+        public BoundCopyPlan bind(CopyOptions options) {
+            IgnorePolicy ignorePolicy = options.getIgnorePolicy();
+            if (ignorePolicy == null || ignorePolicy == IgnorePolicy.NONE || ignorePolicy == IgnorePolicy.DEFAULT) {
+                BitSet ignored = isIgnorable() ? getIgnoredSteps(options) : null;
+                return (source, target) -> pairCopier.copy(source, target, options, ignored);
+            }
+            return super.bind(options);
+        }
+
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+    }
+
+    @Override
+    protected CopyPlan newPlanFor(Class<?> sourceClass, Class<?> targetClass) {
+        DefaultCopyPlan plan = (DefaultCopyPlan) super.newPlanFor(sourceClass, targetClass);
+        if (plan instanceof ConstructorCopyPlan) {
+            // Built through its constructor, which isn't generated
+            return plan;
+        }
+        PairCopier pairCopier = null;
+        try {
+            pairCopier = generate(plan);
+        } catch (LinkageError | ReflectiveOperationException | SecurityException e) {
+            log.debug("Failed to generate copier from " + sourceClass.getName() + " to " + targetClass.getName()
+                    + ", falling back to the default plan", e);
+        }
+        return pairCopier != null ? new GeneratedCopyPlan(plan, pairCopier) : plan;
+    }
+
+    private PairCopier generate(DefaultCopyPlan plan) throws ReflectiveOperationException {
+        Class<?> sourceClass = plan.getSourceClass();
+        Class<?> targetClass = plan.getTargetClass();
+        if (!isAccessible(sourceClass) || !isAccessible(targetClass)) {
+            return null;
+        }
+        ClassLoader parent = targetClass.getClassLoader();
+        if (parent == null || !isVisible(parent, sourceClass) || !isVisible(parent, PairCopier.class)) {
+            return null;
+        }
+
+        CopyStep[] copySteps = plan.getSteps();
+        Method[] getters = new Method[copySteps.length];
+        Method[] setters = new Method[copySteps.length];
+        int delegated = 0;
+        for (int i = 0; i < copySteps.length; i++) {
+            ExtendedField targetField = copySteps[i].getTargetField();
+            if (isDirect(targetField)) {
+                getters[i] = findGetter(sourceClass, targetField.getAliasFor());
+                setters[i] = findSetter(targetClass, targetField);
+            }
+            if (getters[i] == null || setters[i] == null
+                    || !isAssignable(setters[i].getParameterTypes()[0], getters[i].getReturnType())
+                            && !isWidening(setters[i].getParameterTypes()[0], getters[i].getReturnType())) {
+                getters[i] = setters[i] = null;
+                delegated++;
+            }
+        }
+        if (delegated == copySteps.length) {
+            // Nothing to gain
+            return null;
+        }
+
+        Step[] steps = new Step[copySteps.length];
+        for (int i = 0; i < copySteps.length; i++) {
+            if (copySteps[i].isIgnorable()) {
+                final int index = i;
+                steps[i] = (t, s, o, ignored) -> plan.apply(index, t, s, o, ignored);
+            } else {
+                CopyStep copyStep = copySteps[i];
+                steps[i] = (t, s, o, ignored) -> copyStep.apply(t, s, o);
+            }
+        }
+
+        String name = PACKAGE + sanitize(targetClass.getSimpleName()) + "From" + sanitize(sourceClass.getSimpleName())
+                + "Copier$" + COUNTER.incrementAndGet();
+        byte[] bytes = generateBytes(name, sourceClass, targetClass, getters, setters);
+        Class<?> generatedClass;
+        synchronized (classLoaders) {
+            WeakReference<GeneratedClassLoader> reference = classLoaders.get(parent);
+            GeneratedClassLoader classLoader = reference != null ? reference.get() : null;
+            if (classLoader == null) {
+                classLoader = new GeneratedClassLoader(parent);
+                classLoaders.put(parent, new WeakReference<>(classLoader));
+            }
+            generatedClass = classLoader.define(name.replace('/', '.'), bytes);
+        }
+        log.debug(Thread.currentThread().getName() + " generated " + generatedClass.getName());
+        return (PairCopier) generatedClass.getConstructor(Step[].class).newInstance((Object) steps);
+    }
+
+    private byte[] generateBytes(String name, Class<?> sourceClass, Class<?> targetClass, Method[] getters,
+            Method[] setters) {
+        String superName = Type.getInternalName(PairCopier.class);
+        String stepsDescriptor = Type.getDescriptor(Step[].class);
+        String sourceName = Type.getInternalName(sourceClass);
+        String targetName = Type.getInternalName(targetClass);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                name, null, superName, null);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "(" + stepsDescriptor + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "(" + stepsDescriptor + ")V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // copy(Object source, Object target, CopyOptions options, BitSet ignored)
+        String stepDescriptor = "(Ljava/lang/Object;Ljava/lang/Object;" + Type.getDescriptor(CopyOptions.class)
+                + Type.getDescriptor(BitSet.class) + ")V";
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "copy", stepDescriptor, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, sourceName);
+        mv.visitVarInsn(Opcodes.ASTORE, 5);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, targetName);
+        mv.visitVarInsn(Opcodes.ASTORE, 6);
+        for (int i = 0; i < getters.length; i++) {
+            if (getters[i] != null) {
+                // target.setXxx(source.getXxx())
+                mv.visitVarInsn(Opcodes.ALOAD, 6);
+                mv.visitVarInsn(Opcodes.ALOAD, 5);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, sourceName, getters[i].getName(),
+                        Type.getMethodDescriptor(getters[i]), false);
+                widen(mv, getters[i].getReturnType(), setters[i].getParameterTypes()[0]);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, targetName, setters[i].getName(),
+                        Type.getMethodDescriptor(setters[i]), false);
+                Class<?> returnType = setters[i].getReturnType();
+                if (returnType == long.class || returnType == double.class) {
+                    mv.visitInsn(Opcodes.POP2);
+                } else if (returnType != void.class) {
+                    mv.visitInsn(Opcodes.POP);
+                }
+            } else {
+                // steps[i].apply(target, source, options, ignored)
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, superName, "steps", stepsDescriptor);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(Opcodes.AALOAD);
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Step.class), "apply", stepDescriptor,
+                        true);
+            }
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private Method findGetter(Class<?> sourceClass, String fieldName) {
+        String methodNameSuffix = getMethodNameSuffix(fieldName);
+        for (Method method : sourceClass.getMethods()) {
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class && !method.isBridge()
+                    && !Modifier.isStatic(method.getModifiers()) && isAccessible(method.getDeclaringClass())
+                    && (method.getName().equals("is" + methodNameSuffix)
+                            || method.getName().equals("get" + methodNameSuffix))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private Method findSetter(Class<?> targetClass, ExtendedField targetField) {
+        String methodName = "set" + getMethodNameSuffix(targetField.getName());
+        for (Method method : targetClass.getMethods()) {
+            if (method.getName().equals(methodName) && method.getParameterCount() == 1 && !method.isBridge()
+                    && !Modifier.isStatic(method.getModifiers()) && isAccessible(method.getDeclaringClass())
+                    && method.getParameterTypes()[0] == targetField.getType()) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAssignable(Class<?> to, Class<?> from) {
+        if (to.isPrimitive() || from.isPrimitive()) {
+            return to == from;
+        }
+        return to.isAssignableFrom(from);
+    }
+
+    /**
+     * Checks if a primitive type is widened to another one without boxing, e.g.
+     * {@code int} to {@code long}, unless a converter is registered for the pair.
+     */
+    private static boolean isWidening(Class<?> to, Class<?> from) {
+        if (!to.isPrimitive() || !from.isPrimitive() || Converters.isRegistered(from, to)) {
+            return false;
+        }
+        switch (rank(from)) {
+            case 0:
+                return false;
+            case 1:
+                // byte to short
+                return to == short.class || rank(to) > 2;
+            case 2:
+                // char and short, but not to each other
+                return rank(to) > 2;
+            default:
+                return rank(to) > rank(from);
+        }
+    }
+
+    /**
+     * Orders the numeric primitive types by width, {@code 0} for the others.
+     */
+    private static int rank(Class<?> type) {
+        if (type == byte.class) {
+            return 1;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == int.class) {
+            return 3;
+        } else if (type == long.class) {
+            return 4;
+        } else if (type == float.class) {
+            return 5;
+        } else if (type == double.class) {
+            return 6;
+        }
+        return 0;
+    }
+
+    /**
+     * Emits the instruction widening a primitive value on the stack, if any.
+     */
+    private static void widen(MethodVisitor mv, Class<?> from, Class<?> to) {
+        if (from == to || !to.isPrimitive()) {
+            return;
+        }
+        boolean fromLong = from == long.class;
+        boolean fromFloat = from == float.class;
+        if (to == long.class && !fromLong) {
+            mv.visitInsn(Opcodes.I2L);
+        } else if (to == float.class) {
+            mv.visitInsn(fromLong ? Opcodes.L2F : Opcodes.I2F);
+        } else if (to == double.class) {
+            mv.visitInsn(fromLong ? Opcodes.L2D : fromFloat ? Opcodes.F2D : Opcodes.I2D);
+        }
+        // byte, short and char are ints on the stack already
+    }
+
+    private static boolean isAccessible(Class<?> clazz) {
+        return Modifier.isPublic(clazz.getModifiers()) && !clazz.isInterface()
+                && (clazz.getEnclosingClass() == null || isAccessible(clazz.getEnclosingClass()));
+    }
+
+    private static boolean isVisible(ClassLoader classLoader, Class<?> clazz) {
+        try {
+            return Class.forName(clazz.getName(), false, classLoader) == clazz;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String sanitize(String simpleName) {
+        return simpleName.isEmpty() ? "Anonymous" : simpleName.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.Arrays;
+
+/**
+ * Maps source instances, by identity, to the target instances they're copied
+ * to, for a copy preserving identities.
+ * <p>
+ * A table is bound to the current thread and reused across copies. The
+ * outermost copy preserving identities enters it, nested copies enter it again,
+ * and it's cleared once the outermost copy exits. Entries are kept in flat
+ * arrays with linear probing, so that a copy allocates nothing but its targets
+ * unless the table grows.
+ */
+final class IdentityTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Tables grown beyond this capacity are shrunk once cleared, so that a large
+     * copy does not keep its memory bound to the thread.
+     */
+    private static final int RETAINED_CAPACITY = 4096;
+
+    private static final ThreadLocal<IdentityTable> CURRENT = ThreadLocal.withInitial(IdentityTable::new);
+
+    private Object[] sources;
+    private Class<?>[] targetClasses;
+    private Object[] targets;
+    private int size;
+    private int depth;
+
+    private IdentityTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Enters the table of the current thread if the options preserve identities.
+     *
+     * @return the table, or {@code null} if identities are not preserved
+     */
+    static IdentityTable enter(CopyOptions options) {
+        if (options == null || !options.isIdentityPreserved()) {
+            return null;
+        }
+        IdentityTable table = CURRENT.get();
+        table.depth++;
+        return table;
+    }
+
+    /**
+     * Exits the table, clearing it if it's exited by the outermost copy.
+     *
+     * @param table the table returned by {@link #enter(CopyOptions)}, may be
+     *              {@code null}
+     */
+    static void exit(IdentityTable table) {
+        if (table != null && --table.depth == 0) {
+            table.clear();
+        }
+    }
+
+    /**
+     * Returns the target which the source was copied to as an instance of the
+     * target class, or {@code null} if it was not.
+     */
+    Object get(Object source, Class<?> targetClass) {
+        int mask = sources.length - 1;
+        for (int i = hash(source, targetClass) & mask;; i = (i + 1) & mask) {
+            Object key = sources[i];
+            if (key == null) {
+                return null;
+            }
+            if (key == source && targetClasses[i] == targetClass) {
+                return targets[i];
+            }
+        }
+    }
+
+    /**
+     * Registers the target which the source is copied to, unless a target is
+     * already registered for the source and the target class.
+     */
+    void put(Object source, Class<?> targetClass, Object target) {
+        int mask = sources.length - 1;
+        int i = hash(source, targetClass) & mask;
+        for (Object key; (key = sources[i]) != null; i = (i + 1) & mask) {
+            if (key == source && targetClasses[i] == targetClass) {
+                return;
+            }
+        }
+        sources[i] = source;
+        targetClasses[i] = targetClass;
+        targets[i] = target;
+        if (++size * 2 > sources.length) {
+            resize();
+        }
+    }
+
+    private static int hash(Object source, Class<?> targetClass) {
+        int h = System.identityHashCode(source) * 31 + System.identityHashCode(targetClass);
+        return h ^ (h >>> 16);
+    }
+
+    private void resize() {
+        Object[] oldSources = sources;
+        Class<?>[] oldTargetClasses = targetClasses;
+        Object[] oldTargets = targets;
+        allocate(oldSources.length * 2);
+        int mask = sources.length - 1;
+        for (int j = 0; j < oldSources.length; j++) {
+            if (oldSources[j] != null) {
+                int i = hash(oldSources[j], oldTargetClasses[j]) & mask;
+                while (sources[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                sources[i] = oldSources[j];
+                targetClasses[i] = oldTargetClasses[j];
+                targets[i] = oldTargets[j];
+            }
+        }
+    }
+
+    private void clear() {
+        if (size == 0) {
+            return;
+        }
+        if (sources.length > RETAINED_CAPACITY) {
+            allocate(INITIAL_CAPACITY);
+        } else {
+            Arrays.fill(sources, null);
+            Arrays.fill(targetClasses, null);
+            Arrays.fill(targets, null);
+        }
+        size = 0;
+    }
+
+    private void allocate(int capacity) {
+        sources = new Object[capacity];
+        targetClasses = new Class<?>[capacity];
+        targets = new Object[capacity];
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.exception.InvokeIgnorePolicySupplierFailedException;
+import com.keroz.beancopyutils.reflection.ExtendedField;
+
+/**
+ * An invoker of a {@link CopyIgnore#supplierMethod()}, which is resolved once
+ * when a copy plan is compiled.
+ */
+@FunctionalInterface
+interface IgnoreSupplier {
+
+    /**
+     * Decides whether to ignore the field.
+     *
+     * @param target  the target object
+     * @param source  the source object
+     * @param ignored whether the field is ignored by the ignore conditions
+     * @return {@code true} if the field should be ignored
+     */
+    boolean shouldIgnore(Object target, Object source, boolean ignored);
+
+    /**
+     * Resolves the supplier method of the given field. The method is looked up
+     * in the class declaring the field, either as
+     * {@code boolean name(Object source, boolean ignored)} or as
+     * {@code boolean name(Object source)}, the latter being called only if the
+     * field is not ignored yet.
+     * <p>
+     * The method of a field passed to the constructor of its class must be
+     * static, as there's no target to call it on yet. It's called with a
+     * {@code null} target.
+     *
+     * @param field       the field, annotated with a supplier method
+     * @param constructed whether the field is passed to the constructor
+     * @return the supplier
+     * @throws InvokeIgnorePolicySupplierFailedException if the method can not be
+     *                                                   resolved, so that the
+     *                                                   plan fails to compile
+     */
+    static IgnoreSupplier resolve(ExtendedField field, boolean constructed) {
+        String methodName = field.getCopyIgnore().supplierMethod();
+        Class<?> declaringClass = field.getDeclaringClass();
+        Method method = null;
+        boolean takesIgnored = true;
+        try {
+            try {
+                method = declaringClass.getDeclaredMethod(methodName, Object.class, boolean.class);
+            } catch (NoSuchMethodException e) {
+                method = declaringClass.getDeclaredMethod(methodName, Object.class);
+                takesIgnored = false;
+            }
+            Class<?> returnType = method.getReturnType();
+            if (!returnType.equals(boolean.class) && !returnType.equals(Boolean.class)) {
+                throw new InvokeIgnorePolicySupplierFailedException(
+                        "Failed to invoke ignore policy supplier method: " + method.toGenericString()
+                                + "\nExpected return type to be boolean, but got: " + returnType,
+                        null);
+            }
+            if (constructed && !Modifier.isStatic(method.getModifiers())) {
+                throw new InvokeIgnorePolicySupplierFailedException(
+                        "Failed to invoke ignore policy supplier method: " + method.toGenericString()
+                                + "\nExpected a static method, as " + declaringClass.getName()
+                                + " is built through its constructor",
+                        null);
+            }
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            if (takesIgnored) {
+                MethodHandle invoker = handle
+                        .asType(MethodType.methodType(boolean.class, Object.class, Object.class, boolean.class));
+                return (target, source, ignored) -> {
+                    try {
+                        return (boolean) invoker.invokeExact(target, source, ignored);
+                    } catch (Throwable e) {
+                        throw invocationFailed(e);
+                    }
+                };
+            } else {
+                MethodHandle invoker = handle
+                        .asType(MethodType.methodType(boolean.class, Object.class, Object.class));
+                return (target, source, ignored) -> {
+                    if (ignored) {
+                        return true;
+                    }
+                    try {
+                        return (boolean) invoker.invokeExact(target, source);
+                    } catch (Throwable e) {
+                        throw invocationFailed(e);
+                    }
+                };
+            }
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException e) {
+            throw new InvokeIgnorePolicySupplierFailedException(
+                    "Failed to invoke ignore policy supplier method: " + e.getMessage(), e);
+        }
+    }
+
+    static RuntimeException invocationFailed(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new InvokeIgnorePolicySupplierFailedException(
+                "Failed to invoke ignore policy supplier method: " + e.getMessage(), e);
+    }
+
+}
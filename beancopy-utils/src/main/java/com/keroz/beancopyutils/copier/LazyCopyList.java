@@ -0,0 +1,50 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * An unmodifiable list copying each element of a source list the first time
+ * it's read, and returning the same copy afterwards.
+ * <p>
+ * The size is fixed when the list is created, so the source list must not be
+ * structurally modified afterwards. Sources which are not
+ * {@link RandomAccess} are snapshotted up front, without copying their
+ * elements. The list may be read from several threads, each element being
+ * published once.
+ */
+public final class LazyCopyList<Source, Target> extends AbstractList<Target> implements RandomAccess {
+
+    private final List<Source> sourceList;
+    private final Function<? super Source, ? extends Target> copying;
+    private final AtomicReferenceArray<Target> targets;
+
+    public LazyCopyList(List<Source> sourceList, Function<? super Source, ? extends Target> copying) {
+        this.sourceList = sourceList instanceof RandomAccess ? sourceList : new ArrayList<>(sourceList);
+        this.copying = copying;
+        this.targets = new AtomicReferenceArray<>(this.sourceList.size());
+    }
+
+    @Override
+    public Target get(int index) {
+        Target target = targets.get(index);
+        if (target != null) {
+            return target;
+        }
+        target = copying.apply(sourceList.get(index));
+        if (target == null || targets.compareAndSet(index, null, target)) {
+            return target;
+        }
+        return targets.get(index);
+    }
+
+    @Override
+    public int size() {
+        return targets.length();
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.keroz.beancopyutils.copier;
+
+import static com.keroz.beancopyutils.copier.CollectionFactories.hashCapacity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.keroz.beancopyutils.exception.InstantiationException;
+
+/**
+ * The registry of {@link MapFactory}s, resolving the factory of a map class
+ * once and memoizing it, the same way as {@link CollectionFactories}.
+ * <p>
+ * A map class is resolved to, in order:
+ * <ol>
+ * <li>the factory registered for the class or its closest abstract
+ * superclass;</li>
+ * <li>a pre-sizing factory of the common {@code java.util} classes;</li>
+ * <li>a default implementation of {@code Map}, {@code SortedMap} and
+ * {@code ConcurrentMap}, of {@code AbstractMap} for views, and of ORM maps,
+ * such as Hibernate's {@code PersistentMap};</li>
+ * <li>the public no-arg constructor of the class.</li>
+ * </ol>
+ * Likewise, a concrete class is never created by the factory of a concrete
+ * superclass other than an ORM map.
+ */
+public final class MapFactories {
+
+    private static final Map<Class<?>, MapFactory> REGISTERED = new ConcurrentHashMap<>();
+
+    /**
+     * Factories of classes which may not be loaded, by class name.
+     */
+    private static final Map<String, MapFactory> NAMED = new HashMap<>();
+
+    private static final ClassValue<MapFactory> FACTORIES = new ClassValue<MapFactory>() {
+
+        @Override
+        protected MapFactory computeValue(Class<?> mapClass) {
+            return resolve(mapClass);
+        }
+
+    };
+
+    static {
+        register(HashMap.class, expectedSize -> new HashMap<>(hashCapacity(expectedSize)));
+        register(LinkedHashMap.class, expectedSize -> new LinkedHashMap<>(hashCapacity(expectedSize)));
+        register(TreeMap.class, expectedSize -> new TreeMap<>());
+        register(Hashtable.class, expectedSize -> new Hashtable<>(hashCapacity(expectedSize)));
+        register(ConcurrentHashMap.class, ConcurrentHashMap::new);
+        register(ConcurrentSkipListMap.class, expectedSize -> new ConcurrentSkipListMap<>());
+
+        register(Map.class, expectedSize -> new LinkedHashMap<>(hashCapacity(expectedSize)));
+        register(AbstractMap.class, expectedSize -> new LinkedHashMap<>(hashCapacity(expectedSize)));
+        register(SortedMap.class, expectedSize -> new TreeMap<>());
+        register(NavigableMap.class, expectedSize -> new TreeMap<>());
+        register(ConcurrentMap.class, ConcurrentHashMap::new);
+        register(ConcurrentNavigableMap.class, expectedSize -> new ConcurrentSkipListMap<>());
+
+        for (String packageName : new String[] { "org.hibernate.collection.internal.",
+                "org.hibernate.collection.spi." }) {
+            NAMED.put(packageName + "PersistentMap", expectedSize -> new HashMap<>(hashCapacity(expectedSize)));
+            NAMED.put(packageName + "PersistentSortedMap", expectedSize -> new TreeMap<>());
+        }
+        NAMED.put("org.eclipse.persistence.indirection.IndirectMap",
+                expectedSize -> new HashMap<>(hashCapacity(expectedSize)));
+    }
+
+    private MapFactories() {
+    }
+
+    /**
+     * Registers the factory of a map class, which is also used for its
+     * subclasses without a factory of their own if the class is abstract.
+     * <p>
+     * Factories should be registered before the class is first copied, since
+     * subclasses which are already resolved keep their factory.
+     *
+     * @param mapClass the map class
+     * @param factory  the factory
+     */
+    @SuppressWarnings("rawtypes")
+    public static void register(Class<? extends Map> mapClass, MapFactory factory) {
+        if (mapClass == null || factory == null) {
+            throw new IllegalArgumentException("Map class and factory must not be null");
+        }
+        REGISTERED.put(mapClass, factory);
+        FACTORIES.remove(mapClass);
+    }
+
+    /**
+     * Returns the factory of a map class.
+     *
+     * @param mapClass the map class
+     * @return the factory, or {@code null} if the class can't be instantiated
+     */
+    public static MapFactory get(Class<?> mapClass) {
+        return FACTORIES.get(mapClass);
+    }
+
+    /**
+     * Creates a map of the given class.
+     *
+     * @param mapClass     the map class
+     * @param expectedSize the number of entries to be put
+     * @return the new map
+     * @throws InstantiationException if the class can't be instantiated
+     */
+    public static Map<Object, Object> create(Class<?> mapClass, int expectedSize) {
+        MapFactory factory = FACTORIES.get(mapClass);
+        if (factory == null) {
+            throw new InstantiationException("Failed to instantiate class: " + mapClass.getName(), null);
+        }
+        return factory.create(expectedSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapFactory resolve(Class<?> mapClass) {
+        boolean concrete = !Modifier.isAbstract(mapClass.getModifiers());
+        for (Class<?> type = mapClass; type != null; type = type.getSuperclass()) {
+            if (concrete && type != mapClass && !Modifier.isAbstract(type.getModifiers())) {
+                return NAMED.get(type.getName());
+            }
+            MapFactory factory = REGISTERED.get(type);
+            if (factory == null) {
+                factory = NAMED.get(type.getName());
+            }
+            if (factory != null) {
+                return factory;
+            }
+            if (type == mapClass && concrete) {
+                MethodHandle constructor = CollectionFactories.findConstructor(type);
+                if (constructor != null) {
+                    return expectedSize -> (Map<Object, Object>) CollectionFactories.newInstance(constructor,
+                            mapClass);
+                }
+            }
+        }
+        return null;
+    }
+
+}
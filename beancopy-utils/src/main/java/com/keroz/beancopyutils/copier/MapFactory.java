@@ -0,0 +1,18 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.Map;
+
+/**
+ * Creates empty target maps, see {@link MapFactories}.
+ */
+@FunctionalInterface
+public interface MapFactory {
+
+    /**
+     * @param expectedSize the number of entries to be put, which the map may be
+     *                     sized for
+     * @return a new empty map
+     */
+    Map<Object, Object> create(int expectedSize);
+
+}
@@ -0,0 +1,37 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.function.Function;
+
+/**
+ * Copies instances of a certain source class to a certain target class, with
+ * certain options. Mappers are thread-safe and meant to be kept, e.g. in
+ * {@code static final} fields, so that the metadata of the pair is looked up
+ * only once.
+ *
+ * @see Copier#mapper(Class, Class, CopyOptions)
+ */
+public interface Mapper<Source, Target> extends Function<Source, Target> {
+
+    /**
+     * Copies the source into a new instance of the target class.
+     *
+     * @param source the source, may be {@code null}
+     * @return the target, or {@code null} if the source is {@code null}
+     */
+    Target map(Source source);
+
+    /**
+     * Copies the source into the given target.
+     *
+     * @param source the source
+     * @param target the target
+     * @return the target
+     */
+    Target map(Source source, Target target);
+
+    @Override
+    default Target apply(Source source) {
+        return map(source);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.keroz.beancopyutils.copier;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Options of a parallel copy of a collection or an array.
+ * <p>
+ * Sources smaller than the threshold are copied sequentially on the calling
+ * thread. Larger ones are split into chunks, about four per unit of
+ * parallelism, which are copied on the executor.
+ */
+public final class ParallelOptions {
+
+    /**
+     * The default threshold, below which sources are copied sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    /**
+     * Copies sources from {@link #DEFAULT_THRESHOLD} elements on in the common
+     * {@link ForkJoinPool}.
+     */
+    public static final ParallelOptions DEFAULT = new ParallelOptions(DEFAULT_THRESHOLD, null, 0);
+
+    private final int threshold;
+    private final Executor executor;
+    private final int parallelism;
+
+    private ParallelOptions(int threshold, Executor executor, int parallelism) {
+        this.threshold = threshold;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param threshold the minimum number of elements to copy in parallel
+     * @return new options with the given threshold
+     */
+    public ParallelOptions withThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+        return new ParallelOptions(threshold, executor, parallelism);
+    }
+
+    /**
+     * @param executor the executor to copy on, {@code null} for the common
+     *                 {@link ForkJoinPool}
+     * @return new options with the given executor
+     */
+    public ParallelOptions withExecutor(Executor executor) {
+        return new ParallelOptions(threshold, executor, parallelism);
+    }
+
+    /**
+     * @param parallelism the number of threads expected to copy at the same time,
+     *                    {@code 0} to take the parallelism of a
+     *                    {@link ForkJoinPool} executor, or the number of
+     *                    processors otherwise
+     * @return new options with the given parallelism
+     */
+    public ParallelOptions withParallelism(int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism must not be negative: " + parallelism);
+        }
+        return new ParallelOptions(threshold, executor, parallelism);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Executor getExecutor() {
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    public int getParallelism() {
+        if (parallelism > 0) {
+            return parallelism;
+        }
+        Executor executor = getExecutor();
+        return executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the number of elements per chunk for a source of the given size.
+     */
+    int getChunkSize(long size) {
+        long chunks = 4L * getParallelism();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (size + chunks - 1) / chunks));
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.reflect.Array;
+
+/**
+ * Bulk copies of arrays whose elements need no copying, avoiding the boxing of
+ * {@link Array#get(Object, int)} and {@link Array#set(Object, int, Object)}.
+ */
+final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * Copies an array whose elements are shared with the target array, that's
+     * primitive values or references to immutable values.
+     *
+     * @param sourceArray          the source array
+     * @param targetComponentClass the component type of the target array
+     * @return the target array, or {@code null} if the component types are not
+     *         the same or a reference type assignable to the target, and not a
+     *         widening primitive conversion either
+     */
+    static Object copy(Object sourceArray, Class<?> targetComponentClass) {
+        Class<?> sourceComponentClass = sourceArray.getClass().getComponentType();
+        if (sourceComponentClass == targetComponentClass
+                || !sourceComponentClass.isPrimitive() && targetComponentClass.isAssignableFrom(sourceComponentClass)) {
+            int length = Array.getLength(sourceArray);
+            Object targetArray = Array.newInstance(targetComponentClass, length);
+            System.arraycopy(sourceArray, 0, targetArray, 0, length);
+            return targetArray;
+        }
+        if (!sourceComponentClass.isPrimitive() || !targetComponentClass.isPrimitive()) {
+            return null;
+        }
+        if (targetComponentClass == double.class) {
+            return toDoubleArray(sourceArray);
+        } else if (targetComponentClass == float.class) {
+            return toFloatArray(sourceArray);
+        } else if (targetComponentClass == long.class) {
+            return toLongArray(sourceArray);
+        } else if (targetComponentClass == int.class) {
+            return toIntArray(sourceArray);
+        } else if (targetComponentClass == short.class && sourceArray instanceof byte[]) {
+            byte[] source = (byte[]) sourceArray;
+            short[] target = new short[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        }
+        return null;
+    }
+
+    private static double[] toDoubleArray(Object sourceArray) {
+        if (sourceArray instanceof float[]) {
+            float[] source = (float[]) sourceArray;
+            double[] target = new double[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        } else if (sourceArray instanceof long[]) {
+            long[] source = (long[]) sourceArray;
+            double[] target = new double[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        }
+        int[] source = toIntArray(sourceArray);
+        if (source == null) {
+            return null;
+        }
+        double[] target = new double[source.length];
+        for (int i = 0; i < source.length; i++) {
+            target[i] = source[i];
+        }
+        return target;
+    }
+
+    private static float[] toFloatArray(Object sourceArray) {
+        if (sourceArray instanceof long[]) {
+            long[] source = (long[]) sourceArray;
+            float[] target = new float[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        }
+        int[] source = toIntArray(sourceArray);
+        if (source == null) {
+            return null;
+        }
+        float[] target = new float[source.length];
+        for (int i = 0; i < source.length; i++) {
+            target[i] = source[i];
+        }
+        return target;
+    }
+
+    private static long[] toLongArray(Object sourceArray) {
+        int[] source = toIntArray(sourceArray);
+        if (source == null) {
+            return null;
+        }
+        long[] target = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            target[i] = source[i];
+        }
+        return target;
+    }
+
+    /**
+     * Widens an {@code int} or narrower array to {@code int[]}, returns an
+     * {@code int[]} as it is.
+     */
+    private static int[] toIntArray(Object sourceArray) {
+        if (sourceArray instanceof int[]) {
+            return (int[]) sourceArray;
+        } else if (sourceArray instanceof short[]) {
+            short[] source = (short[]) sourceArray;
+            int[] target = new int[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        } else if (sourceArray instanceof char[]) {
+            char[] source = (char[]) sourceArray;
+            int[] target = new int[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        } else if (sourceArray instanceof byte[]) {
+            byte[] source = (byte[]) sourceArray;
+            int[] target = new int[source.length];
+            for (int i = 0; i < source.length; i++) {
+                target[i] = source[i];
+            }
+            return target;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.keroz.beancopyutils.copier;
+
+/**
+ * A copier for a certain pair of source class and target class, usually
+ * generated at compile time for classes annotated with
+ * {@link com.keroz.beancopyutils.annotation.CopyFrom CopyFrom}.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader}, and
+ * are preferred over the plans compiled at runtime by copiers extending
+ * {@link AbstractCachedCopier}.
+ *
+ * @param <Source> the source type
+ * @param <Target> the target type
+ */
+public interface TypedCopier<Source, Target> {
+
+    Class<Source> getSourceClass();
+
+    Class<Target> getTargetClass();
+
+    /**
+     * Copies from the source object to the target object.
+     *
+     * @param source  the source object
+     * @param target  the target object
+     * @param options the copy options, to be passed on to nested copies
+     * @param copier  the copier to copy nested values with
+     */
+    void copy(Source source, Target target, CopyOptions options, Copier copier);
+
+}
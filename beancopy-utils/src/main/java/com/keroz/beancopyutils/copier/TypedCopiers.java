@@ -0,0 +1,82 @@
+package com.keroz.beancopyutils.copier;
+
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Looks up {@link TypedCopier}s through {@link ServiceLoader}, using the class
+ * loader of the target class. Each class loader is scanned once, its copiers
+ * being indexed by target class and source class, and the lookup result is
+ * memoized per target class.
+ */
+@Slf4j
+final class TypedCopiers {
+
+    /**
+     * The copiers found by each class loader, by target class and then by source
+     * class. The index references classes of its key, so it's only softly
+     * referenced, or it would keep its key from ever being cleared; it's only
+     * needed until the target classes of the loader have been looked up.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final Map<ClassLoader, SoftReference<Map<Class<?>, Map<Class<?>, TypedCopier>>>> INDEXES = new WeakHashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    private static final ClassValue<Map<Class<?>, TypedCopier>> COPIERS = new ClassValue<Map<Class<?>, TypedCopier>>() {
+
+        @Override
+        protected Map<Class<?>, TypedCopier> computeValue(Class<?> targetClass) {
+            ClassLoader classLoader = targetClass.getClassLoader();
+            if (classLoader == null) {
+                return Collections.emptyMap();
+            }
+            Map<Class<?>, TypedCopier> copiers = index(classLoader).get(targetClass);
+            return copiers != null ? copiers : Collections.emptyMap();
+        }
+
+    };
+
+    private TypedCopiers() {
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, Map<Class<?>, TypedCopier>> index(ClassLoader classLoader) {
+        synchronized (INDEXES) {
+            SoftReference<Map<Class<?>, Map<Class<?>, TypedCopier>>> reference = INDEXES.get(classLoader);
+            Map<Class<?>, Map<Class<?>, TypedCopier>> index = reference != null ? reference.get() : null;
+            if (index == null) {
+                index = new HashMap<>();
+                try {
+                    for (TypedCopier<?, ?> copier : ServiceLoader.load(TypedCopier.class, classLoader)) {
+                        log.debug("Found typed copier " + copier.getClass().getName());
+                        index.computeIfAbsent(copier.getTargetClass(), key -> new HashMap<>())
+                                .put(copier.getSourceClass(), copier);
+                    }
+                } catch (ServiceConfigurationError e) {
+                    log.warn("Failed to load typed copiers from " + classLoader, e);
+                }
+                INDEXES.put(classLoader, new SoftReference<>(index));
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Finds the typed copier for the given pair of classes.
+     *
+     * @param sourceClass the source class
+     * @param targetClass the target class
+     * @return the typed copier, or {@code null} if none exists
+     */
+    static TypedCopier<?, ?> find(Class<?> sourceClass, Class<?> targetClass) {
+        return COPIERS.get(targetClass).get(sourceClass);
+    }
+
+}
@@ -17,13 +17,24 @@ public class ExtendedField {
     private CopyIgnore copyIgnore;
     private Class<? extends Converter<?, ?>> converterClass;
     private Class<? extends Collection<?>> collectionClass;
+    private ResolvedType resolvedType;
 
     public ExtendedField(Field field) {
+        this(field, field.getDeclaringClass());
+    }
+
+    /**
+     * @param field   the field
+     * @param context the class the field is found in, which the type variables of
+     *                the field are resolved against
+     */
+    public ExtendedField(Field field, Class<?> context) {
         this.field = field;
         this.aliasFor = internalGetAliasFor();
         this.copyIgnore = field.getDeclaredAnnotation(CopyIgnore.class);
         this.converterClass = internalGetConverterClass();
         this.collectionClass = internalGetCollectionClass();
+        this.resolvedType = ResolvedType.resolve(field.getGenericType(), context);
     }
 
     private String internalGetAliasFor() {
@@ -55,6 +66,10 @@ public class ExtendedField {
         return (Class<? extends Collection<?>>) implementationType;
     }
 
+    public Field getField() {
+        return this.field;
+    }
+
     public String getName() {
         return this.field.getName();
     }
@@ -105,4 +120,27 @@ public class ExtendedField {
     public Class<? extends Collection<?>> getCollectionClass() {
         return this.collectionClass;
     }
+
+    /**
+     * Returns the generic type of this field, resolved once when this field is
+     * built.
+     *
+     * @return the resolved type
+     * @see ResolvedType
+     */
+    public ResolvedType getResolvedType() {
+        return this.resolvedType;
+    }
+
+    /**
+     * Returns the erased type argument of the generic type of this field at the
+     * given index, e.g. the value type of a {@code Map<String, Bean>} for
+     * {@code 1}.
+     *
+     * @param index the index of the type argument
+     * @return the erased type argument, or {@code Object} if the field is raw
+     */
+    public Class<?> getTypeArgument(int index) {
+        return this.resolvedType.getTypeArgument(index).getRawType();
+    }
 }
@@ -0,0 +1,57 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+/**
+ * Creates method handles reading and writing fields directly, for fields
+ * without a getter or a setter.
+ * <p>
+ * On Java 8 the handles are unreflected from the fields made accessible. On
+ * Java 9 and later, a version of this class in the multi-release JAR derives
+ * them from {@code VarHandle}s found through a private lookup in the class
+ * declaring the field, so that no {@code setAccessible} is needed.
+ */
+public final class FieldAccessors {
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * Returns a handle reading a field, of type {@code (DeclaringClass)FieldType}.
+     *
+     * @param field the field
+     * @return the handle
+     * @throws IllegalAccessException if the field can't be accessed
+     */
+    public static MethodHandle getter(Field field) throws IllegalAccessException {
+        makeAccessible(field);
+        return MethodHandles.lookup().unreflectGetter(field);
+    }
+
+    /**
+     * Returns a handle writing a field, of type
+     * {@code (DeclaringClass, FieldType)void}.
+     *
+     * @param field the field
+     * @return the handle
+     * @throws IllegalAccessException if the field can't be accessed, e.g. it's
+     *                                final
+     */
+    public static MethodHandle setter(Field field) throws IllegalAccessException {
+        makeAccessible(field);
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
+
+    private static void makeAccessible(Field field) throws IllegalAccessException {
+        try {
+            field.setAccessible(true);
+        } catch (SecurityException e) {
+            IllegalAccessException exception = new IllegalAccessException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.keroz.beancopyutils.annotation.Immutable;
+
+/**
+ * The registry of immutable types, whose values are shared with the target
+ * instead of being copied.
+ * <p>
+ * Besides the types known to {@link TypeInfo#isImmutable()}, a type is
+ * immutable if it's registered, or a subclass of a registered type, annotated
+ * with {@link Immutable} or another well-known {@code @Immutable} annotation,
+ * or a record.
+ */
+public final class ImmutableTypes {
+
+    private static final Set<Class<?>> REGISTERED = ConcurrentHashMap.newKeySet();
+
+    private static final String[] ANNOTATION_NAMES = { "javax.annotation.concurrent.Immutable",
+            "com.google.errorprone.annotations.Immutable" };
+
+    static {
+        Collections.addAll(REGISTERED, BigDecimal.class, BigInteger.class, UUID.class, URI.class, Currency.class,
+                Locale.class, Pattern.class, Class.class, Duration.class, Period.class, ZoneId.class, Optional.class,
+                OptionalInt.class, OptionalLong.class, OptionalDouble.class);
+    }
+
+    private ImmutableTypes() {
+    }
+
+    /**
+     * Registers an immutable type, including its subclasses.
+     * <p>
+     * Types should be registered before they're first copied.
+     *
+     * @param type the immutable type
+     */
+    public static void register(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type must not be null");
+        }
+        REGISTERED.add(type);
+        TypeInfo.invalidate(type);
+    }
+
+    /**
+     * Checks if the given type is registered or otherwise declared immutable.
+     *
+     * @param type the type to check
+     * @return {@code true} if values of the type can be shared
+     */
+    static boolean isDeclaredImmutable(Class<?> type) {
+        if (type.isArray() || type.isInterface() && !REGISTERED.contains(type)) {
+            return false;
+        }
+        for (Class<?> superType = type; superType != null; superType = superType.getSuperclass()) {
+            if (REGISTERED.contains(superType)) {
+                return true;
+            }
+        }
+        if (type.isAnnotationPresent(Immutable.class)) {
+            return true;
+        }
+        for (Annotation annotation : type.getAnnotations()) {
+            String name = annotation.annotationType().getName();
+            for (String annotationName : ANNOTATION_NAMES) {
+                if (annotationName.equals(name)) {
+                    return true;
+                }
+            }
+        }
+        Class<?> superclass = type.getSuperclass();
+        return superclass != null && superclass.getName().equals("java.lang.Record");
+    }
+
+}
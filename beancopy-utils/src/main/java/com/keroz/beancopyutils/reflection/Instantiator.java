@@ -0,0 +1,18 @@
+package com.keroz.beancopyutils.reflection;
+
+/**
+ * Creates new instances of a certain class, see {@link Instantiators}.
+ */
+@FunctionalInterface
+public interface Instantiator<T> {
+
+    /**
+     * @return a new instance
+     * @throws com.keroz.beancopyutils.exception.InstantiationException if the
+     *                                                                  instance
+     *                                                                  can't be
+     *                                                                  created
+     */
+    T newInstance();
+
+}
@@ -0,0 +1,192 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.esotericsoftware.reflectasm.ConstructorAccess;
+import com.keroz.beancopyutils.exception.InstantiationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The registry of {@link Instantiator}s, resolving the instantiator of a class
+ * once and memoizing it.
+ * <p>
+ * A class is resolved to, in order:
+ * <ol>
+ * <li>the instantiator registered for the class;</li>
+ * <li>a ReflectASM {@link ConstructorAccess} calling its no-arg constructor
+ * directly;</li>
+ * <li>a {@link MethodHandle} of its no-arg constructor, which may be
+ * private;</li>
+ * <li>if {@link #setConstructorBypassAllowed(boolean) allowed}, an
+ * instantiator allocating instances without calling any constructor.</li>
+ * </ol>
+ */
+@Slf4j
+public final class Instantiators {
+
+    private static final Map<Class<?>, Instantiator<?>> REGISTERED = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Instantiator<?>> INSTANTIATORS = new ClassValue<Instantiator<?>>() {
+
+        @Override
+        protected Instantiator<?> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+
+    };
+
+    private static volatile boolean constructorBypassAllowed;
+
+    private Instantiators() {
+    }
+
+    /**
+     * Returns the instantiator of a class. The instantiator of a class which
+     * can't be instantiated throws an {@link InstantiationException}.
+     *
+     * @param type the class
+     * @return the instantiator
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Instantiator<T> get(Class<T> type) {
+        return (Instantiator<T>) INSTANTIATORS.get(type);
+    }
+
+    /**
+     * Registers the instantiator of a class, e.g. a factory method.
+     * <p>
+     * Instantiators should be registered before the class is first copied.
+     *
+     * @param type         the class
+     * @param instantiator the instantiator
+     */
+    public static <T> void register(Class<T> type, Instantiator<? extends T> instantiator) {
+        if (type == null || instantiator == null) {
+            throw new IllegalArgumentException("Type and instantiator must not be null");
+        }
+        REGISTERED.put(type, instantiator);
+        INSTANTIATORS.remove(type);
+    }
+
+    /**
+     * Checks if an instantiator is registered for a class.
+     */
+    public static boolean isRegistered(Class<?> type) {
+        return REGISTERED.containsKey(type);
+    }
+
+    /**
+     * Allows instantiating classes without a no-arg constructor without calling
+     * any constructor, in which case fields are not initialized either. It's off
+     * by default, and relies on {@code sun.misc.Unsafe}.
+     *
+     * @param allowed whether constructors may be bypassed
+     */
+    public static void setConstructorBypassAllowed(boolean allowed) {
+        constructorBypassAllowed = allowed;
+    }
+
+    public static boolean isConstructorBypassAllowed() {
+        return constructorBypassAllowed;
+    }
+
+    private static Instantiator<?> resolve(Class<?> type) {
+        Instantiator<?> instantiator = REGISTERED.get(type);
+        if (instantiator != null) {
+            return instantiator;
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray()
+                || type.isPrimitive()) {
+            return failing(type, null);
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return bypassing(type, e);
+        }
+        if (!Modifier.isPrivate(constructor.getModifiers()) && type.getClassLoader() != null
+                && (!type.isMemberClass() || Modifier.isStatic(type.getModifiers()))) {
+            try {
+                ConstructorAccess<?> constructorAccess = ConstructorAccess.get(type);
+                return constructorAccess::newInstance;
+            } catch (RuntimeException | LinkageError e) {
+                log.debug("Failed to generate constructor access for " + type.getName(), e);
+            }
+        }
+        try {
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return handle.invokeExact();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new InstantiationException("Failed to instantiate class: " + type.getName(), e);
+                }
+            };
+        } catch (IllegalAccessException | SecurityException e) {
+            return bypassing(type, e);
+        }
+    }
+
+    /**
+     * Returns an instantiator of a class without a usable no-arg constructor,
+     * which bypasses constructors if allowed at the time of the call.
+     */
+    private static Instantiator<?> bypassing(Class<?> type, Exception cause) {
+        Instantiator<?> failing = failing(type, cause);
+        return () -> {
+            if (!constructorBypassAllowed) {
+                return failing.newInstance();
+            }
+            try {
+                return (Object) UnsafeHolder.ALLOCATE_INSTANCE.invokeExact(type);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InstantiationException("Failed to instantiate class: " + type.getName(), e);
+            }
+        };
+    }
+
+    private static Instantiator<?> failing(Class<?> type, Exception cause) {
+        return () -> {
+            throw new InstantiationException("Failed to instantiate class: " + type.getName(), cause);
+        };
+    }
+
+    /**
+     * Looks {@code Unsafe.allocateInstance} up only once constructors are
+     * bypassed.
+     */
+    private static final class UnsafeHolder {
+
+        static final MethodHandle ALLOCATE_INSTANCE;
+
+        static {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                ALLOCATE_INSTANCE = MethodHandles.lookup()
+                        .findVirtual(unsafeClass, "allocateInstance", MethodType.methodType(Object.class, Class.class))
+                        .bindTo(field.get(null));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The constructor of a class without a no-arg constructor which takes the
+ * values of its fields, e.g. the canonical constructor of a record, or the
+ * all-args constructor of a Lombok {@code @Value} class, along with the field
+ * each parameter is assigned to.
+ * <p>
+ * The parameters of a constructor are matched to fields, in order:
+ * <ol>
+ * <li>by the names given by {@link ConstructorProperties};</li>
+ * <li>by the names of the parameters, if compiled with {@code -parameters}, as
+ * records are;</li>
+ * <li>by position, if the constructor takes exactly the types of the fields
+ * declared by the class, in the order of declaration.</li>
+ * </ol>
+ * Each parameter must be assignable from the type of its field. Of several
+ * matching constructors, the one with the most parameters is chosen.
+ */
+public final class PropertyConstructor {
+
+    private final Constructor<?> constructor;
+    private final Field[] fields;
+
+    private PropertyConstructor(Constructor<?> constructor, Field[] fields) {
+        this.constructor = constructor;
+        this.fields = fields;
+    }
+
+    /**
+     * Finds the constructor taking the values of the fields of a class.
+     *
+     * @param type the class
+     * @return the constructor, or {@code null} if the class has a no-arg
+     *         constructor, can't be instantiated, or has no matching constructor
+     */
+    public static PropertyConstructor find(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray() || type.isPrimitive()
+                || type.isEnum() || type.getClassLoader() == null) {
+            return null;
+        }
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.getParameterCount() == 0) {
+                return null;
+            }
+        }
+        PropertyConstructor found = null;
+        for (Constructor<?> constructor : constructors) {
+            if (constructor.isSynthetic()
+                    || found != null && found.fields.length >= constructor.getParameterCount()) {
+                continue;
+            }
+            Field[] fields = match(type, constructor);
+            if (fields != null) {
+                found = new PropertyConstructor(constructor, fields);
+            }
+        }
+        return found;
+    }
+
+    private static Field[] match(Class<?> type, Constructor<?> constructor) {
+        ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+        if (properties != null) {
+            return matchByName(type, constructor, properties.value());
+        }
+        Parameter[] parameters = constructor.getParameters();
+        if (parameters[0].isNamePresent()) {
+            String[] names = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                names[i] = parameters[i].getName();
+            }
+            Field[] fields = matchByName(type, constructor, names);
+            if (fields != null) {
+                return fields;
+            }
+        }
+        return matchByPosition(type, constructor);
+    }
+
+    private static Field[] matchByName(Class<?> type, Constructor<?> constructor, String[] names) {
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        if (names.length != parameterTypes.length) {
+            return null;
+        }
+        List<Field> instanceFields = ReflectionUtils.getAllInstanceFields(type);
+        Field[] fields = new Field[names.length];
+        for (int i = 0; i < names.length; i++) {
+            for (Field field : instanceFields) {
+                if (field.getName().equals(names[i])) {
+                    fields[i] = field;
+                    break;
+                }
+            }
+            if (fields[i] == null || !parameterTypes[i].isAssignableFrom(fields[i].getType())) {
+                return null;
+            }
+        }
+        return fields;
+    }
+
+    private static Field[] matchByPosition(Class<?> type, Constructor<?> constructor) {
+        List<Field> declaredFields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                declaredFields.add(field);
+            }
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        if (declaredFields.size() != parameterTypes.length) {
+            return null;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] != declaredFields.get(i).getType()) {
+                return null;
+            }
+        }
+        return declaredFields.toArray(new Field[0]);
+    }
+
+    public Constructor<?> getConstructor() {
+        return this.constructor;
+    }
+
+    /**
+     * Returns the field each parameter of the constructor is assigned to.
+     */
+    public Field[] getFields() {
+        return this.fields.clone();
+    }
+
+    /**
+     * Returns a handle calling the constructor, of its exact type, e.g.
+     * {@code (long,String)Order}.
+     *
+     * @return the handle
+     * @throws IllegalAccessException if the constructor can't be accessed
+     */
+    public MethodHandle newHandle() throws IllegalAccessException {
+        try {
+            constructor.setAccessible(true);
+        } catch (RuntimeException e) {
+            // e.g. InaccessibleObjectException
+            IllegalAccessException exception = new IllegalAccessException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+
+}
@@ -3,19 +3,18 @@ package com.keroz.beancopyutils.reflection;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.time.temporal.Temporal;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ReflectionUtils {
 
     public static enum GeneralType {
-        PRIMITIVE, ARRAY, COLLECTION, OBJECT
+        PRIMITIVE, ARRAY, COLLECTION, MAP, OBJECT
     }
 
     /**
@@ -42,11 +41,19 @@ public class ReflectionUtils {
         }).collect(Collectors.toList());
     }
 
+    /**
+     * Returns all non-static fields, final or not (including the inherited ones).
+     */
+    public static List<Field> getAllInstanceFields(Class<?> clazz) {
+        return getAllFields(clazz).stream().filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .collect(Collectors.toList());
+    }
+
     public static List<ExtendedField> getAllValidFieldWrappers(Class<?> clazz) {
         return getAllFields(clazz).stream().filter(field -> {
             int mod = field.getModifiers();
             return (mod & Modifier.FINAL) == 0 && (mod & Modifier.STATIC) == 0;
-        }).map(ExtendedField::new).collect(Collectors.toList());
+        }).map(field -> new ExtendedField(field, clazz)).collect(Collectors.toList());
     }
 
     /**
@@ -54,8 +61,7 @@ public class ReflectionUtils {
      */
     @SuppressWarnings("rawtypes")
     public static Class getFieldGenericType(ExtendedField field) {
-        ParameterizedType type = (ParameterizedType) field.getGenericType();
-        return (Class) type.getActualTypeArguments()[0];
+        return field.getTypeArgument(0);
     }
 
     public static List<Method> getAllMethods(Class<?> clazz) {
@@ -69,15 +75,31 @@ public class ReflectionUtils {
         return methods;
     }
 
-    public static GeneralType getGeneralType(Class<?> clazz) {
-        if (isPrimitive(clazz)) {
-            return GeneralType.PRIMITIVE;
-        } else if (clazz.isArray()) {
-            return GeneralType.ARRAY;
-        } else if (isCollection(clazz)) {
-            return GeneralType.COLLECTION;
+    /**
+     * Returns the generic type of a readable property, that's the return type of
+     * its public getter, or the type of its field.
+     *
+     * @return the type, or {@code null} if there's no such property
+     */
+    public static Type getPropertyGenericType(Class<?> clazz, String propertyName) {
+        String suffix = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (Method method : getAllMethods(clazz)) {
+            if ((method.getName().equals("get" + suffix) || method.getName().equals("is" + suffix))
+                    && Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 0 && !method.isBridge()) {
+                return method.getGenericReturnType();
+            }
+        }
+        for (Field field : getAllInstanceFields(clazz)) {
+            if (field.getName().equals(propertyName)) {
+                return field.getGenericType();
+            }
         }
-        return GeneralType.OBJECT;
+        return null;
+    }
+
+    public static GeneralType getGeneralType(Class<?> clazz) {
+        return TypeInfo.of(clazz).getGeneralType();
     }
 
     /**
@@ -87,21 +109,7 @@ public class ReflectionUtils {
      * @return {@code true}或{@code false}
      */
     public static boolean isPrimitive(Class<?> clazz) {
-        boolean result = false;
-        if (clazz.isPrimitive() || clazz == String.class || clazz == Date.class
-                || Temporal.class.isAssignableFrom(clazz) || clazz.isEnum()) {
-            result = true;
-        } else {
-            // 判断是否基本类型的包装类
-            try {
-                Field field = clazz.getDeclaredField("TYPE");
-                if (field != null && ((Class<?>) field.get(null)).isPrimitive()) {
-                    result = true;
-                }
-            } catch (NoSuchFieldException | IllegalAccessException ignored) {
-            }
-        }
-        return result;
+        return TypeInfo.of(clazz).isPrimitive();
     }
 
     /**
@@ -115,4 +123,15 @@ public class ReflectionUtils {
         return Collection.class.isAssignableFrom(clazz);
     }
 
+    /**
+     * Checks if the given class is of type {@link Map}
+     *
+     * @param clazz the class to check
+     * @return {@code true} if the given class is of type {@link Map}, otherwise
+     *         {@code false}.
+     */
+    public static boolean isMap(Class<?> clazz) {
+        return Map.class.isAssignableFrom(clazz);
+    }
+
 }
@@ -0,0 +1,200 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+
+/**
+ * A generic type with its type variables and wildcards resolved, as a tree of
+ * classes, e.g. {@code List<Map<String, Dto>>}.
+ * <p>
+ * Type variables are resolved against the class a field is found in, so that a
+ * field of type {@code List<T>} declared in {@code Page<T>} resolves to
+ * {@code List<Dto>} in a {@code DtoPage extends Page<Dto>}. Type variables
+ * which can't be resolved this way are resolved to their erased bound, and
+ * wildcards to their lower bound if any, or their erased upper bound.
+ */
+public final class ResolvedType {
+
+    private static final ResolvedType[] NO_TYPE_ARGUMENTS = new ResolvedType[0];
+
+    /**
+     * {@code Object}, the type of values whose type is unknown.
+     */
+    public static final ResolvedType OBJECT = new ResolvedType(Object.class, NO_TYPE_ARGUMENTS, null);
+
+    private final Class<?> rawType;
+    private final ResolvedType[] typeArguments;
+    private final ResolvedType componentType;
+    private final TypeInfo typeInfo;
+
+    private ResolvedType(Class<?> rawType, ResolvedType[] typeArguments, ResolvedType componentType) {
+        this.rawType = rawType;
+        this.typeArguments = typeArguments;
+        this.componentType = componentType;
+        this.typeInfo = TypeInfo.of(rawType);
+    }
+
+    /**
+     * Returns the type of a class, without type arguments.
+     */
+    public static ResolvedType of(Class<?> type) {
+        if (type == null || type == Object.class) {
+            return OBJECT;
+        }
+        return new ResolvedType(type, NO_TYPE_ARGUMENTS,
+                type.isArray() ? of(type.getComponentType()) : null);
+    }
+
+    /**
+     * Resolves a generic type, e.g. the generic type of a field.
+     *
+     * @param type    the generic type
+     * @param context the class whose type variables, and those of its
+     *                superclasses, are resolved against
+     * @return the resolved type
+     */
+    public static ResolvedType resolve(Type type, Class<?> context) {
+        return resolve(type, getTypeVariables(context));
+    }
+
+    private static ResolvedType resolve(Type type, Map<TypeVariable<?>, Type> typeVariables) {
+        if (type instanceof Class) {
+            return of((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            Type[] actualTypeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            ResolvedType[] typeArguments = new ResolvedType[actualTypeArguments.length];
+            for (int i = 0; i < actualTypeArguments.length; i++) {
+                typeArguments[i] = resolve(actualTypeArguments[i], typeVariables);
+            }
+            return new ResolvedType(erase(type), typeArguments, null);
+        } else if (type instanceof GenericArrayType) {
+            ResolvedType componentType = resolve(((GenericArrayType) type).getGenericComponentType(), typeVariables);
+            return new ResolvedType(Array.newInstance(componentType.rawType, 0).getClass(), NO_TYPE_ARGUMENTS,
+                    componentType);
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Type[] lowerBounds = wildcardType.getLowerBounds();
+            return resolve(lowerBounds.length > 0 ? lowerBounds[0] : wildcardType.getUpperBounds()[0],
+                    typeVariables);
+        } else if (type instanceof TypeVariable) {
+            Type actualType = typeVariables.get(type);
+            if (actualType != null) {
+                return resolve(actualType, typeVariables);
+            }
+            // Only the erasure, as bounds may be recursive, e.g. T extends Comparable<T>
+            return of(erase(((TypeVariable<?>) type).getBounds()[0]));
+        }
+        return OBJECT;
+    }
+
+    /**
+     * Maps the type variables of the superclasses of a class to their actual
+     * types, as far as they're given.
+     */
+    private static Map<TypeVariable<?>, Type> getTypeVariables(Class<?> context) {
+        if (context == null) {
+            return Collections.emptyMap();
+        }
+        Map<TypeVariable<?>, Type> typeVariables = new HashMap<>();
+        for (Class<?> clazz = context; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            Type superclass = clazz.getGenericSuperclass();
+            if (!(superclass instanceof ParameterizedType)) {
+                continue;
+            }
+            TypeVariable<?>[] typeParameters = ((Class<?>) ((ParameterizedType) superclass).getRawType())
+                    .getTypeParameters();
+            Type[] actualTypeArguments = ((ParameterizedType) superclass).getActualTypeArguments();
+            for (int i = 0; i < typeParameters.length; i++) {
+                Type actualType = actualTypeArguments[i];
+                // Subclasses come first, so their type variables are known already
+                typeVariables.put(typeParameters[i],
+                        actualType instanceof TypeVariable && typeVariables.containsKey(actualType)
+                                ? typeVariables.get(actualType)
+                                : actualType);
+            }
+        }
+        return typeVariables;
+    }
+
+    private static Class<?> erase(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            return Array.newInstance(erase(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        } else if (type instanceof TypeVariable) {
+            return erase(((TypeVariable<?>) type).getBounds()[0]);
+        } else if (type instanceof WildcardType) {
+            return erase(((WildcardType) type).getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    public Class<?> getRawType() {
+        return rawType;
+    }
+
+    public GeneralType getGeneralType() {
+        return typeInfo.getGeneralType();
+    }
+
+    public TypeInfo getTypeInfo() {
+        return typeInfo;
+    }
+
+    /**
+     * Checks if the type arguments of this type are given, e.g. {@code true} for
+     * {@code List<String>} but {@code false} for a raw {@code List}.
+     */
+    public boolean isParameterized() {
+        return typeArguments.length > 0;
+    }
+
+    /**
+     * Returns the type argument at the given index, e.g. the value type of a
+     * {@code Map<String, Dto>} for {@code 1}.
+     *
+     * @param index the index of the type argument
+     * @return the type argument, or {@link #OBJECT} if this type is raw
+     */
+    public ResolvedType getTypeArgument(int index) {
+        return index < typeArguments.length ? typeArguments[index] : OBJECT;
+    }
+
+    /**
+     * Returns the component type of an array type, or {@code null} for other
+     * types.
+     */
+    public ResolvedType getComponentType() {
+        return componentType;
+    }
+
+    @Override
+    public String toString() {
+        if (componentType != null) {
+            return componentType + "[]";
+        }
+        if (typeArguments.length == 0) {
+            return rawType.getName();
+        }
+        StringBuilder builder = new StringBuilder(rawType.getName()).append('<');
+        for (int i = 0; i < typeArguments.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(typeArguments[i]);
+        }
+        return builder.append('>').toString();
+    }
+
+}
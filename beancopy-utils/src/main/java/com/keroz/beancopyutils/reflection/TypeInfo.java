@@ -0,0 +1,128 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+
+/**
+ * The classification of a class, computed once per class and memoized.
+ */
+public final class TypeInfo {
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = new HashMap<>();
+    private static final Map<Class<?>, Class<?>> WRAPPER_TO_PRIMITIVE = new HashMap<>();
+
+    static {
+        PRIMITIVE_TO_WRAPPER.put(boolean.class, Boolean.class);
+        PRIMITIVE_TO_WRAPPER.put(byte.class, Byte.class);
+        PRIMITIVE_TO_WRAPPER.put(char.class, Character.class);
+        PRIMITIVE_TO_WRAPPER.put(short.class, Short.class);
+        PRIMITIVE_TO_WRAPPER.put(int.class, Integer.class);
+        PRIMITIVE_TO_WRAPPER.put(long.class, Long.class);
+        PRIMITIVE_TO_WRAPPER.put(float.class, Float.class);
+        PRIMITIVE_TO_WRAPPER.put(double.class, Double.class);
+        PRIMITIVE_TO_WRAPPER.put(void.class, Void.class);
+        for (Map.Entry<Class<?>, Class<?>> entry : PRIMITIVE_TO_WRAPPER.entrySet()) {
+            WRAPPER_TO_PRIMITIVE.put(entry.getValue(), entry.getKey());
+        }
+    }
+
+    private static final ClassValue<TypeInfo> TYPE_INFOS = new ClassValue<TypeInfo>() {
+
+        @Override
+        protected TypeInfo computeValue(Class<?> type) {
+            return new TypeInfo(type);
+        }
+
+    };
+
+    private final Class<?> type;
+    private final Class<?> primitiveType;
+    private final Class<?> wrapperType;
+    private final boolean immutable;
+    private final boolean primitive;
+    private final GeneralType generalType;
+
+    private TypeInfo(Class<?> type) {
+        this.type = type;
+        if (type.isPrimitive()) {
+            this.primitiveType = type;
+            this.wrapperType = PRIMITIVE_TO_WRAPPER.get(type);
+        } else {
+            this.primitiveType = WRAPPER_TO_PRIMITIVE.get(type);
+            this.wrapperType = primitiveType != null ? type : null;
+        }
+        this.immutable = primitiveType != null || type == String.class || Enum.class.isAssignableFrom(type)
+                || Temporal.class.isAssignableFrom(type) && type.getName().startsWith("java.time.")
+                || ImmutableTypes.isDeclaredImmutable(type);
+        this.primitive = immutable || type == Date.class || Temporal.class.isAssignableFrom(type);
+        if (primitive) {
+            this.generalType = GeneralType.PRIMITIVE;
+        } else if (type.isArray()) {
+            this.generalType = GeneralType.ARRAY;
+        } else if (Collection.class.isAssignableFrom(type)) {
+            this.generalType = GeneralType.COLLECTION;
+        } else if (Map.class.isAssignableFrom(type)) {
+            this.generalType = GeneralType.MAP;
+        } else {
+            this.generalType = GeneralType.OBJECT;
+        }
+    }
+
+    public static TypeInfo of(Class<?> type) {
+        return TYPE_INFOS.get(type);
+    }
+
+    /**
+     * Discards the classification of a type, after it's registered as immutable.
+     */
+    static void invalidate(Class<?> type) {
+        TYPE_INFOS.remove(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public GeneralType getGeneralType() {
+        return generalType;
+    }
+
+    /**
+     * Checks if values of this type are copied as they are, see
+     * {@link ReflectionUtils#isPrimitive(Class)}.
+     */
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * Checks if values of this type are known to be immutable, that's
+     * primitives and their wrappers, {@code String}, enums, {@code java.time}
+     * types, and the types of {@link ImmutableTypes}.
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    /**
+     * Returns the primitive type of a primitive or wrapper type, e.g.
+     * {@code int} for {@code Integer}, or {@code null} for other types.
+     */
+    public Class<?> getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * Returns the wrapper type of a primitive or wrapper type, e.g.
+     * {@code Integer} for {@code int}, or {@code null} for other types.
+     */
+    public Class<?> getWrapperType() {
+        return wrapperType;
+    }
+
+}
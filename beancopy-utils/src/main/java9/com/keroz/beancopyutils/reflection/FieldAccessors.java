@@ -0,0 +1,80 @@
+package com.keroz.beancopyutils.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+
+/**
+ * Creates method handles reading and writing fields directly, for fields
+ * without a getter or a setter.
+ * <p>
+ * This is the version of Java 9 and later, deriving the handles from
+ * {@code VarHandle}s found through a private lookup in the class declaring the
+ * field, which needs the package of the class to be open to this library but
+ * no {@code setAccessible}. Fields of classes in other modules which are not
+ * open are made accessible instead, as on Java 8.
+ */
+public final class FieldAccessors {
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * Returns a handle reading a field, of type {@code (DeclaringClass)FieldType}.
+     *
+     * @param field the field
+     * @return the handle
+     * @throws IllegalAccessException if the field can't be accessed
+     */
+    public static MethodHandle getter(Field field) throws IllegalAccessException {
+        VarHandle varHandle = findVarHandle(field);
+        if (varHandle == null) {
+            makeAccessible(field);
+            return MethodHandles.lookup().unreflectGetter(field);
+        }
+        return varHandle.toMethodHandle(VarHandle.AccessMode.GET);
+    }
+
+    /**
+     * Returns a handle writing a field, of type
+     * {@code (DeclaringClass, FieldType)void}.
+     *
+     * @param field the field
+     * @return the handle
+     * @throws IllegalAccessException if the field can't be accessed, e.g. it's
+     *                                final
+     */
+    public static MethodHandle setter(Field field) throws IllegalAccessException {
+        VarHandle varHandle = findVarHandle(field);
+        if (varHandle == null) {
+            makeAccessible(field);
+            return MethodHandles.lookup().unreflectSetter(field);
+        }
+        if (!varHandle.isAccessModeSupported(VarHandle.AccessMode.SET)) {
+            throw new IllegalAccessException("Field is final: " + field);
+        }
+        return varHandle.toMethodHandle(VarHandle.AccessMode.SET);
+    }
+
+    private static VarHandle findVarHandle(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectVarHandle(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static void makeAccessible(Field field) throws IllegalAccessException {
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // e.g. InaccessibleObjectException
+            IllegalAccessException exception = new IllegalAccessException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.keroz.beancopyutils.cache.CacheStats;
+import com.keroz.beancopyutils.cache.ClassCache;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class ClassCacheTest {
+
+    @Data
+    public static class Bean {
+        private int id = 1;
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        AtomicInteger loads = new AtomicInteger();
+        ClassCache<String> cache = new ClassCache<>(16, clazz -> {
+            loads.incrementAndGet();
+            return clazz.getSimpleName();
+        });
+        assertEquals("String", cache.get(String.class));
+        assertEquals("String", cache.get(String.class));
+        assertEquals("Integer", cache.get(Integer.class));
+        assertEquals(2, loads.get());
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(2, cache.estimatedSize());
+
+        cache.invalidate(String.class);
+        assertEquals(1, cache.estimatedSize());
+        assertEquals("String", cache.get(String.class));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testComputeOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        ClassCache<Object> cache = new ClassCache<>(16, clazz -> {
+            loads.incrementAndGet();
+            try {
+                // Keep the other threads missing while loading
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.get(String.class)));
+            }
+            Object value = futures.get(0).get();
+            for (Future<Object> future : futures) {
+                assertSame(value, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getMissCount());
+        assertEquals(7, cache.stats().getHitCount());
+    }
+
+    @Test
+    public void testEviction() {
+        Class<?>[] classes = { String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class };
+        ClassCache<Object> cache = new ClassCache<>(4, clazz -> new Object());
+        Object first = cache.get(String.class);
+        for (Class<?> clazz : classes) {
+            // Keep the first class recently used
+            assertSame(first, cache.get(String.class));
+            cache.get(clazz);
+        }
+        assertTrue(cache.estimatedSize() <= 4);
+        assertEquals(2, cache.stats().getEvictionCount());
+        assertSame(first, cache.get(String.class));
+    }
+
+    @Test
+    public void testInvalidateWhileEvicting() throws Exception {
+        Class<?>[] classes = { String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class,
+                Float.class, Character.class };
+        AtomicInteger loads = new AtomicInteger();
+        ClassCache<Object> cache = new ClassCache<>(2, clazz -> {
+            loads.incrementAndGet();
+            return new Object();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 20000; j++) {
+                        Class<?> clazz = classes[(j + offset) % classes.length];
+                        if (j % 3 == 0) {
+                            cache.invalidate(clazz);
+                        }
+                        cache.get(clazz);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Every resident value is still counted, so a quiet cache gets back within bounds
+        for (Class<?> clazz : classes) {
+            cache.get(clazz);
+        }
+        assertTrue(cache.estimatedSize() <= 2);
+        int before = loads.get();
+        Object value = cache.get(Character.class);
+        assertSame(value, cache.get(Character.class));
+        assertEquals(before, loads.get());
+    }
+
+    @Test
+    public void testCopierCacheStats() {
+        DefaultCopier copier = new DefaultCopier(8);
+        for (int i = 0; i < 3; i++) {
+            copier.copy(new Bean(), Bean.class, null, null);
+        }
+        assertEquals(1, copier.getPlanCacheStats().getMissCount());
+        assertEquals(2, copier.getPlanCacheStats().getHitCount());
+        assertEquals(1, copier.getCacheStats().getMissCount());
+    }
+
+}
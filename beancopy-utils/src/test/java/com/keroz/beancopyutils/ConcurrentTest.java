@@ -1,6 +1,12 @@
 package com.keroz.beancopyutils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.DefaultCopier;
 
 import org.junit.jupiter.api.Test;
 
@@ -93,4 +99,35 @@ public class ConcurrentTest {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFirstCopyRace() throws InterruptedException {
+        int threadNum = 64;
+        for (int round = 0; round < 20; round++) {
+            Copier copier = new DefaultCopier();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch latch = new CountDownLatch(threadNum);
+            AtomicInteger copied = new AtomicInteger();
+            Thread[] threads = getThreads(threadNum, () -> {
+                try {
+                    start.await();
+                    String threadName = Thread.currentThread().getName();
+                    Target target = copier.copy(new Source(threadName), Target.class, null, null);
+                    if (target.getId() == 1 && threadName.equals(target.getName())) {
+                        copied.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            start.countDown();
+            latch.await();
+            assertEquals(threadNum, copied.get());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.beans.ConstructorProperties;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+import com.keroz.beancopyutils.exception.InvokeIgnorePolicySupplierFailedException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+
+public class ConstructorTargetTest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceItem {
+        private String name;
+    }
+
+    @Data
+    public static class Source {
+        private int id = 42;
+        private String name = "order";
+        private List<SourceItem> items = new ArrayList<>();
+        private String note = "note";
+    }
+
+    @Value
+    public static class ItemValue {
+        String name;
+    }
+
+    @Value
+    public static class OrderValue {
+        long id;
+        String name;
+        List<ItemValue> items;
+        int missing;
+    }
+
+    public static class ConstructedTarget {
+        private final String name;
+        private final long id;
+        private String note;
+
+        @ConstructorProperties({ "id", "name" })
+        public ConstructedTarget(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+
+    @Value
+    public static class SuppliedValue {
+        long id;
+        @CopyIgnore(supplierMethod = "shouldIgnoreName")
+        String name;
+
+        static boolean shouldIgnoreName(Object source) {
+            return ((Source) source).getId() < 0;
+        }
+    }
+
+    @Value
+    public static class InstanceSuppliedValue {
+        long id;
+        @CopyIgnore(supplierMethod = "shouldIgnoreName")
+        String name;
+
+        boolean shouldIgnoreName(Object source) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testCopyToValue() {
+        Source source = new Source();
+        source.getItems().addAll(Arrays.asList(new SourceItem("a"), new SourceItem("b")));
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            OrderValue target = copier.copy(source, OrderValue.class, CopyOptions.DEFAULT);
+            assertEquals(42L, target.getId());
+            assertEquals("order", target.getName());
+            assertEquals(Arrays.asList(new ItemValue("a"), new ItemValue("b")), target.getItems());
+            assertEquals(0, target.getMissing());
+
+            assertEquals(target, copier.mapper(Source.class, OrderValue.class, CopyOptions.DEFAULT).map(source));
+            assertEquals(target, copier.copy(source, OrderValue.class, CopyOptions.DEFAULT.withIdentityPreserved(true)));
+            // Values are read through the getters of a value class
+            assertEquals(target, copier.copy(target, OrderValue.class, CopyOptions.DEFAULT.withIgnorePolicy(IgnorePolicy.NULL)));
+        }
+    }
+
+    @Test
+    public void testCopyToConstructorProperties() {
+        Source source = new Source();
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            ConstructedTarget target = copier.copy(source, ConstructedTarget.class, CopyOptions.DEFAULT);
+            assertEquals(42L, target.getId());
+            assertEquals("order", target.getName());
+            assertEquals("note", target.getNote());
+
+            source.setName(null);
+            assertNull(copier.copy(source, ConstructedTarget.class, CopyOptions.DEFAULT).getName());
+            source.setName("order");
+        }
+    }
+
+    @Test
+    public void testIgnorePolicySupplier() {
+        Source source = new Source();
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            source.setId(42);
+            assertEquals("order", copier.copy(source, SuppliedValue.class, CopyOptions.DEFAULT).getName());
+            source.setId(-1);
+            SuppliedValue target = copier.copy(source, SuppliedValue.class, CopyOptions.DEFAULT);
+            assertEquals(-1L, target.getId());
+            assertNull(target.getName());
+
+            // There's no target to call an instance method on
+            assertThrows(InvokeIgnorePolicySupplierFailedException.class,
+                    () -> copier.copy(source, InstanceSuppliedValue.class, CopyOptions.DEFAULT));
+        }
+    }
+
+}
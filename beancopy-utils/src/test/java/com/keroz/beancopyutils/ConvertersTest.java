@@ -0,0 +1,94 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.keroz.beancopyutils.converter.Converters;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class ConvertersTest {
+
+    public static enum LegacyStatus {
+        ACTIVE, INACTIVE
+    }
+
+    public static enum Status {
+        ACTIVE, INACTIVE
+    }
+
+    public static class Cents {
+        private final long value;
+
+        public Cents(long value) {
+            this.value = value;
+        }
+    }
+
+    @Data
+    public static class Source {
+        private int count = 42;
+        private char initial = 'a';
+        private float ratio = 0.5f;
+        private Integer boxed = 7;
+        private Integer missing;
+        private long createdAt = 1_000L;
+        private String status = "INACTIVE";
+        private LegacyStatus legacyStatus = LegacyStatus.ACTIVE;
+        private Status name = Status.ACTIVE;
+        private long amount = 1234L;
+        private Cents price = new Cents(250L);
+    }
+
+    @Data
+    public static class Target {
+        private long count;
+        private int initial;
+        private double ratio;
+        private long boxed;
+        private Long missing = 1L;
+        private Instant createdAt;
+        private Status status;
+        private Status legacyStatus;
+        private String name;
+        private BigDecimal amount;
+        private BigDecimal price;
+    }
+
+    @Test
+    public void testConvert() {
+        Converters.register(Cents.class, BigDecimal.class, cents -> BigDecimal.valueOf(cents.value, 2));
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            Target target = copier.copy(new Source(), Target.class, CopyOptions.DEFAULT);
+            assertEquals(42L, target.getCount());
+            assertEquals('a', target.getInitial());
+            assertEquals(0.5d, target.getRatio());
+            assertEquals(7L, target.getBoxed());
+            assertNull(target.getMissing());
+            assertEquals(Instant.ofEpochMilli(1_000L), target.getCreatedAt());
+            assertEquals(Status.INACTIVE, target.getStatus());
+            assertEquals(Status.ACTIVE, target.getLegacyStatus());
+            assertEquals("ACTIVE", target.getName());
+            assertEquals(BigDecimal.valueOf(1234L), target.getAmount());
+            assertEquals(new BigDecimal("2.50"), target.getPrice());
+        }
+    }
+
+    @Test
+    public void testRegisterAfterResolved() {
+        assertNull(Converters.get(Cents.class, String.class));
+        Converters.register(Cents.class, String.class, cents -> cents.value + "c");
+        assertEquals("250c", Converters.get(Cents.class, String.class).convert(new Cents(250L)));
+        assertEquals(Status.ACTIVE, Converters.get(String.class, Status.class).convert("ACTIVE"));
+    }
+
+}
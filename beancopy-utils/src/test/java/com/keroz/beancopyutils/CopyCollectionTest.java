@@ -1,9 +1,13 @@
 package com.keroz.beancopyutils;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -13,6 +17,9 @@ import java.util.Queue;
 import com.keroz.beancopyutils.annotation.AliasFor;
 import com.keroz.beancopyutils.annotation.CopyIgnore;
 import com.keroz.beancopyutils.annotation.ToCollection;
+import com.keroz.beancopyutils.copier.CollectionFactories;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.exception.InstantiationException;
 import com.keroz.beancopyutils.exception.TypeMismatchException;
 
 import org.junit.jupiter.api.Test;
@@ -46,6 +53,62 @@ public class CopyCollectionTest {
         });
     }
 
+    public static enum Color {
+        RED, GREEN
+    }
+
+    @Data
+    public static class PrimitiveArraySource {
+        private int[] intArray = { 1, 2, 3 };
+        private byte[] byteArray = { -1, 2 };
+        private String[] stringArray = { "a", null, "c" };
+        private Color[] colorArray = { Color.GREEN };
+        private long[] longArray = { Long.MAX_VALUE };
+    }
+
+    @Data
+    public static class PrimitiveArrayTarget {
+        private int[] intArray;
+        @AliasFor("intArray")
+        private long[] longArray;
+        @AliasFor("intArray")
+        private double[] doubleArray;
+        @AliasFor("intArray")
+        private Integer[] integerArray;
+        @AliasFor("byteArray")
+        private short[] shortArray;
+        @AliasFor("byteArray")
+        private float[] floatArray;
+        private String[] stringArray;
+        @AliasFor("colorArray")
+        private Color[] enumArray;
+        @CopyIgnore(except = Narrowing.class)
+        @AliasFor("longArray")
+        private int[] narrowedArray;
+
+        public static interface Narrowing {
+        }
+    }
+
+    @Test
+    public void testCopyPrimitiveArrayField() {
+        PrimitiveArraySource source = new PrimitiveArraySource();
+        PrimitiveArrayTarget target = BeanCopyUtils.copy(source, PrimitiveArrayTarget.class);
+
+        assertArrayEquals(source.getIntArray(), target.getIntArray());
+        assertNotSame(source.getIntArray(), target.getIntArray());
+        assertArrayEquals(new long[] { 1, 2, 3 }, target.getLongArray());
+        assertArrayEquals(new double[] { 1, 2, 3 }, target.getDoubleArray());
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, target.getIntegerArray());
+        assertArrayEquals(new short[] { -1, 2 }, target.getShortArray());
+        assertArrayEquals(new float[] { -1, 2 }, target.getFloatArray());
+        assertArrayEquals(source.getStringArray(), target.getStringArray());
+        assertNotSame(source.getStringArray(), target.getStringArray());
+        assertArrayEquals(new Color[] { Color.GREEN }, target.getEnumArray());
+        assertThrows(TypeMismatchException.class,
+                () -> BeanCopyUtils.copy(source, PrimitiveArrayTarget.class, new Class<?>[] { PrimitiveArrayTarget.Narrowing.class }));
+    }
+
     @Data
     public static class Source2 {
         private ArrayList<Integer> intArrayList = new ArrayList<>();
@@ -143,4 +206,30 @@ public class CopyCollectionTest {
         });
     }
 
+    public static class SizedList<E> extends ArrayList<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        public SizedList(int initialCapacity) {
+            super(initialCapacity);
+        }
+    }
+
+    @Test
+    public void testCollectionFactories() {
+        List<Source3> sourceList = Arrays.asList(new Source3("A"), new Source3("B"));
+        List<Target3> targetList = BeanCopyUtils.copyCollection(sourceList, Target3.class);
+        assertEquals(ArrayList.class, targetList.getClass());
+        assertEquals("B", targetList.get(1).getName());
+
+        SizedList<Source3> sourceSizedList = new SizedList<>(2);
+        sourceSizedList.addAll(sourceList);
+        // Without a no-arg constructor, the factory must be registered
+        assertThrows(InstantiationException.class,
+                () -> BeanCopyUtils.copyCollection(sourceSizedList, Target3.class, (CopyOptions) null));
+        CollectionFactories.register(SizedList.class, SizedList::new);
+        SizedList<Target3> targetSizedList = BeanCopyUtils.copyCollection(sourceSizedList, Target3.class);
+        assertEquals("A", targetSizedList.get(0).getName());
+    }
+
 }
@@ -0,0 +1,127 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.copier.MapFactories;
+import com.keroz.beancopyutils.exception.InstantiationException;
+import com.keroz.beancopyutils.exception.TypeMismatchException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class CopyMapTest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceBean {
+        private String name;
+    }
+
+    @Data
+    public static class TargetBean {
+        private String name;
+    }
+
+    @Data
+    public static class Source {
+        private Map<String, SourceBean> beans = new HashMap<>();
+        private Map<String, Integer> numbers = new LinkedHashMap<>();
+        private Map<String, int[]> arrays = new HashMap<>();
+        private Map<String, Object> raw = new HashMap<>();
+        private Map<String, String> empty = new HashMap<>();
+        private SourceBean notMap = new SourceBean("notMap");
+    }
+
+    @Data
+    public static class Target {
+        private Map<String, TargetBean> beans;
+        private TreeMap<String, Integer> numbers;
+        private Map<String, int[]> arrays;
+        private Map<String, Object> raw;
+        @CopyIgnore(policy = IgnorePolicy.EMPTY)
+        private Map<String, String> empty = Collections.singletonMap("kept", "kept");
+    }
+
+    @Data
+    public static class MismatchTarget {
+        private Map<String, String> notMap;
+    }
+
+    @Test
+    public void testCopyMapField() {
+        Source source = new Source();
+        source.getBeans().put("a", new SourceBean("A"));
+        source.getBeans().put("b", null);
+        source.getNumbers().put("two", 2);
+        source.getNumbers().put("one", 1);
+        source.getArrays().put("array", new int[] { 1, 2 });
+        Object shared = new Object();
+        source.getRaw().put("raw", shared);
+
+        Target target = BeanCopyUtils.copy(source, Target.class);
+
+        assertEquals(HashMap.class, target.getBeans().getClass());
+        assertEquals("A", target.getBeans().get("a").getName());
+        assertNull(target.getBeans().get("b"));
+        assertEquals(2, target.getBeans().size());
+        assertEquals("one", target.getNumbers().firstKey());
+        assertEquals(2, target.getNumbers().get("two"));
+        assertNotSame(source.getArrays().get("array"), target.getArrays().get("array"));
+        assertEquals(2, target.getArrays().get("array")[1]);
+        assertSame(shared, target.getRaw().get("raw"));
+        assertEquals("kept", target.getEmpty().get("kept"));
+        assertThrows(TypeMismatchException.class, () -> BeanCopyUtils.copy(source, MismatchTarget.class));
+    }
+
+    public static class SizedMap<K, V> extends HashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        public SizedMap(int initialCapacity) {
+            super(initialCapacity);
+        }
+    }
+
+    @Test
+    public void testCopyMap() {
+        Map<Integer, SourceBean> sourceMap = new TreeMap<>();
+        sourceMap.put(2, new SourceBean("B"));
+        sourceMap.put(1, new SourceBean("A"));
+
+        TreeMap<Integer, TargetBean> targetMap = BeanCopyUtils.copyMap(sourceMap, Integer.class, TargetBean.class);
+        assertEquals(1, targetMap.firstKey());
+        assertEquals("B", targetMap.get(2).getName());
+
+        LinkedHashMap<Integer, TargetBean> linkedMap = BeanCopyUtils.copyMap(sourceMap, Integer.class,
+                TargetBean.class, LinkedHashMap::new, null);
+        assertEquals("A", linkedMap.values().iterator().next().getName());
+        assertNull(BeanCopyUtils.copyMap(null, Integer.class, TargetBean.class));
+
+        SizedMap<Integer, SourceBean> sizedMap = new SizedMap<>(2);
+        sizedMap.putAll(sourceMap);
+        // Without a no-arg constructor, the factory must be registered
+        assertThrows(InstantiationException.class,
+                () -> BeanCopyUtils.copyMap(sizedMap, Integer.class, TargetBean.class));
+        MapFactories.register(SizedMap.class, SizedMap::new);
+        SizedMap<Integer, TargetBean> targetSizedMap = BeanCopyUtils.copyMap(sizedMap, Integer.class,
+                TargetBean.class);
+        assertEquals("B", targetSizedMap.get(2).getName());
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+public class FieldAccessTest {
+
+    public static class PublicFieldItem {
+        public String name;
+    }
+
+    public static class PublicFieldSource {
+        public int count = 42;
+        public long total = 1024L;
+        public String name = "source";
+        public PublicFieldItem item = new PublicFieldItem();
+        public List<PublicFieldItem> items = new ArrayList<>();
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class PrivateFieldTarget {
+        int count;
+        double total;
+        String name;
+        PublicFieldItem item;
+        List<PublicFieldItem> items;
+    }
+
+    @Data
+    public static class GetterTarget {
+        private int count;
+        private long total;
+        private String name;
+    }
+
+    @Test
+    public void testCopyFields() {
+        PublicFieldSource source = new PublicFieldSource();
+        source.item.name = "item";
+        PublicFieldItem listed = new PublicFieldItem();
+        listed.name = "listed";
+        source.items.addAll(Arrays.asList(listed));
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            PrivateFieldTarget target = copier.copy(source, PrivateFieldTarget.class, CopyOptions.DEFAULT);
+            assertEquals(42, target.count);
+            assertEquals(1024d, target.total);
+            assertEquals("source", target.name);
+            assertNotSame(source.item, target.item);
+            assertEquals("item", target.item.name);
+            assertEquals("listed", target.items.get(0).name);
+
+            GetterTarget getterTarget = copier.copy(source, GetterTarget.class, CopyOptions.DEFAULT);
+            assertEquals(42, getterTarget.getCount());
+            assertEquals(1024L, getterTarget.getTotal());
+            assertEquals("source", getterTarget.getName());
+        }
+    }
+
+}
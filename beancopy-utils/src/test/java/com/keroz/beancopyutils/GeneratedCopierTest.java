@@ -0,0 +1,97 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import com.keroz.beancopyutils.annotation.AliasFor;
+import com.keroz.beancopyutils.annotation.Converter;
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.annotation.ToCollection;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class GeneratedCopierTest {
+
+    private static final Copier copier = new GeneratedCopier();
+
+    @Data
+    public static class Source {
+        private int id = 1;
+        private long timestamp = 1603941172886L;
+        private String name = "source";
+        private String description = null;
+        private Nested nested = new Nested();
+        private List<Nested> nestedList = new ArrayList<>(Arrays.asList(new Nested()));
+    }
+
+    @Data
+    public static class Nested {
+        private int value = 42;
+    }
+
+    @Data
+    public static class Target {
+
+        public static interface IncludingName {
+        }
+
+        private int id;
+        @AliasFor("timestamp")
+        @Converter(AliasForAndConverterTest.TimestampToDateConverter.class)
+        private Date date;
+        @CopyIgnore(exceptionGroups = IncludingName.class)
+        private String name;
+        private String description = "description";
+        private Nested nested;
+        @ToCollection(ArrayList.class)
+        private List<Nested> nestedList;
+    }
+
+    @Test
+    public void testGeneratedCopy() {
+        Source source = new Source();
+        Target target = copier.copy(source, Target.class, null, null);
+
+        assertEquals(1, target.getId());
+        assertEquals(new Date(source.getTimestamp()), target.getDate());
+        assertNull(target.getName());
+        assertNull(target.getDescription());
+        assertEquals(42, target.getNested().getValue());
+        assertNotSame(source.getNested(), target.getNested());
+        assertTrue(target.getNestedList() instanceof ArrayList);
+        assertEquals(42, target.getNestedList().get(0).getValue());
+
+        target = copier.copy(source, Target.class, null, new Class<?>[] { Target.IncludingName.class });
+        assertEquals("source", target.getName());
+    }
+
+    @Test
+    public void testIgnorePolicy() {
+        Target target = copier.copy(new Source(), Target.class, IgnorePolicy.NULL, null);
+        assertEquals("description", target.getDescription());
+    }
+
+    @Data
+    static class PackagePrivateSource {
+        private int id = 2;
+    }
+
+    @Test
+    public void testFallback() {
+        Target target = copier.copy(new PackagePrivateSource(), Target.class, null, null);
+        assertEquals(2, target.getId());
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.keroz.beancopyutils.reflection.ExtendedField;
+import com.keroz.beancopyutils.reflection.ReflectionUtils;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+public class GenericTypeTest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceItem {
+        private String name;
+    }
+
+    @Data
+    public static class TargetItem {
+        private String name;
+    }
+
+    @Data
+    public static class Source {
+        private List<List<SourceItem>> nested = new ArrayList<>();
+        private Map<String, List<SourceItem>> grouped = new HashMap<>();
+        private List<SourceItem> bounded = new ArrayList<>();
+        private List<SourceItem> items = new ArrayList<>();
+        private List<?> unknown = new ArrayList<>();
+    }
+
+    @Data
+    public static class Page<T> {
+        private List<T> items;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class TargetPage extends Page<TargetItem> {
+        private List<List<TargetItem>> nested;
+        private Map<String, List<TargetItem>> grouped;
+        private List<? extends TargetItem> bounded;
+        private List<?> unknown;
+    }
+
+    @Test
+    public void testResolveFieldTypes() {
+        Map<String, String> types = new HashMap<>();
+        for (ExtendedField field : ReflectionUtils.getAllValidFieldWrappers(TargetPage.class)) {
+            types.put(field.getName(), field.getResolvedType().toString());
+        }
+        String item = TargetItem.class.getName();
+        assertEquals("java.util.List<java.util.List<" + item + ">>", types.get("nested"));
+        assertEquals("java.util.Map<java.lang.String, java.util.List<" + item + ">>", types.get("grouped"));
+        assertEquals("java.util.List<" + item + ">", types.get("bounded"));
+        assertEquals("java.util.List<" + item + ">", types.get("items"));
+        assertEquals("java.util.List<java.lang.Object>", types.get("unknown"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCopyNestedGenerics() {
+        Source source = new Source();
+        source.getNested().add(Arrays.asList(new SourceItem("a"), new SourceItem("b")));
+        source.getNested().add(Collections.singletonList(new SourceItem("c")));
+        source.getGrouped().put("group", Collections.singletonList(new SourceItem("d")));
+        source.getBounded().add(new SourceItem("e"));
+        source.getItems().add(new SourceItem("f"));
+        Object shared = new Object();
+        ((List<Object>) (List<?>) source.getUnknown()).add(shared);
+
+        TargetPage target = BeanCopyUtils.copy(source, TargetPage.class);
+        assertEquals(2, target.getNested().size());
+        assertEquals("b", target.getNested().get(0).get(1).getName());
+        assertEquals("c", target.getNested().get(1).get(0).getName());
+        assertEquals(TargetItem.class, target.getGrouped().get("group").get(0).getClass());
+        assertEquals("e", target.getBounded().get(0).getName());
+        assertEquals(TargetItem.class, target.getItems().get(0).getClass());
+        assertEquals("f", target.getItems().get(0).getName());
+        assertSame(shared, target.getUnknown().get(0));
+    }
+
+}
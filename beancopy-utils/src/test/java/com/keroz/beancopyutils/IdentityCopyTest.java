@@ -0,0 +1,96 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class IdentityCopyTest {
+
+    private static final CopyOptions PRESERVING = CopyOptions.DEFAULT.withIdentityPreserved(true);
+
+    @Getter
+    @Setter
+    public static class Customer {
+        private String name = "customer";
+    }
+
+    @Getter
+    @Setter
+    public static class Order {
+        private Customer customer;
+        private List<OrderLine> lines = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class OrderLine {
+        private Order order;
+        private Customer customer;
+    }
+
+    private static Order newOrder(Customer customer, int lineCount) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        for (int i = 0; i < lineCount; i++) {
+            OrderLine line = new OrderLine();
+            line.setOrder(order);
+            line.setCustomer(customer);
+            order.getLines().add(line);
+        }
+        return order;
+    }
+
+    @Test
+    public void testPreserveIdentity() {
+        Order source = newOrder(new Customer(), 3);
+        Order target = BeanCopyUtils.copy(source, Order.class, PRESERVING);
+
+        assertNotSame(source, target);
+        assertNotSame(source.getCustomer(), target.getCustomer());
+        assertEquals(3, target.getLines().size());
+        for (OrderLine line : target.getLines()) {
+            assertSame(target, line.getOrder());
+            assertSame(target.getCustomer(), line.getCustomer());
+        }
+
+        // The identity table is cleared after each copy
+        Order another = BeanCopyUtils.copy(source, Order.class, PRESERVING);
+        assertNotSame(target, another);
+        assertNotSame(target.getCustomer(), another.getCustomer());
+    }
+
+    @Test
+    public void testPreserveIdentityAcrossElements() {
+        Customer customer = new Customer();
+        List<Order> sources = new ArrayList<>();
+        sources.add(newOrder(customer, 1));
+        sources.add(newOrder(customer, 2));
+        List<Order> targets = BeanCopyUtils.copyCollection(sources, Order.class, PRESERVING);
+        assertSame(targets.get(0).getCustomer(), targets.get(1).getCustomer());
+
+        Order existing = new Order();
+        BeanCopyUtils.copy(sources.get(1), existing, PRESERVING);
+        assertSame(existing, existing.getLines().get(1).getOrder());
+    }
+
+    @Test
+    public void testPreserveIdentityWithGeneratedCopier() {
+        GeneratedCopier copier = new GeneratedCopier();
+        Order source = newOrder(new Customer(), 2);
+        Order target = copier.copy(source, Order.class, PRESERVING);
+        assertSame(target, target.getLines().get(1).getOrder());
+        assertSame(target.getCustomer(), target.getLines().get(0).getCustomer());
+    }
+
+}
@@ -1,9 +1,16 @@
 package com.keroz.beancopyutils;
 
 import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -110,4 +117,39 @@ public class IgnoreConditionTest {
         assertEquals(source.getId(), target.getId());
         assertNull(target.getName());
     }
+
+    @Test
+    public void testCopyOptions() {
+        assertSame(CopyOptions.DEFAULT, CopyOptions.of(null, (Class<?>[]) null));
+        assertEquals(CopyOptions.of(Target3.IncludingId.class, Target3.ExcludingName.class),
+                CopyOptions.of(Target3.ExcludingName.class, Target3.IncludingId.class, Target3.IncludingId.class));
+        assertNotEquals(CopyOptions.of(Target3.IncludingId.class),
+                CopyOptions.of(IgnorePolicy.NULL, Target3.IncludingId.class));
+        // Options of the legacy overloads are shared rather than built per copy
+        assertSame(CopyOptions.of(IgnorePolicy.NULL), CopyOptions.of(IgnorePolicy.NULL));
+        assertSame(CopyOptions.of(IgnorePolicy.NULL, Target3.IncludingId.class),
+                CopyOptions.of(IgnorePolicy.NULL, Target3.IncludingId.class));
+        assertEquals(CopyOptions.of(Target3.IncludingId.class, null),
+                CopyOptions.of((IgnorePolicy) null, Target3.IncludingId.class));
+
+        CopyOptions includingId = CopyOptions.of(Target3.IncludingId.class);
+        CopyOptions excludingName = CopyOptions.of(Target3.IncludingId.class, Target3.Excluding.class);
+        Source1 source = new Source1();
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            // Alternate the options so that each plan keeps several ignored sets
+            for (int i = 0; i < 2; i++) {
+                Target3 target = copier.copy(source, Target3.class, CopyOptions.DEFAULT);
+                assertEquals(0, target.getId());
+                assertEquals(source.getName(), target.getName());
+
+                target = copier.copy(source, Target3.class, includingId);
+                assertEquals(source.getId(), target.getId());
+                assertEquals(source.getName(), target.getName());
+
+                target = copier.copy(source, Target3.class, excludingName);
+                assertEquals(source.getId(), target.getId());
+                assertNull(target.getName());
+            }
+        }
+    }
 }
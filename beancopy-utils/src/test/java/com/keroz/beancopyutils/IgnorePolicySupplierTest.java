@@ -1,10 +1,13 @@
 package com.keroz.beancopyutils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
 import com.keroz.beancopyutils.exception.InvokeIgnorePolicySupplierFailedException;
 
 import org.junit.jupiter.api.Test;
@@ -82,4 +85,55 @@ public class IgnorePolicySupplierTest {
                 () -> BeanCopyUtils.copy(source, InvalidTarget.class));
     }
 
+
+    @Data
+    @ToString
+    public static class WrongReturnTypeTarget {
+
+        @CopyIgnore(supplierMethod = "shouldIgnorePayload")
+        private Payload payload;
+
+        private String shouldIgnorePayload(Object source, boolean ignored) {
+            return "false";
+        }
+
+    }
+
+    @Data
+    @ToString
+    public static class PrivateSupplierTarget {
+
+        @CopyIgnore(supplierMethod = "shouldIgnorePayload")
+        private Payload payload;
+
+        private Boolean shouldIgnorePayload(Object source, boolean ignored) {
+            return ((Source) source).getPayload().getIndex() == 0;
+        }
+
+    }
+
+    @Test
+    public void testResolvedIgnorePolicySupplier() {
+        Source source1 = Source.builder().payload(Payload.builder().index(0).content("payload-0").build()).build();
+        Source source2 = Source.builder().payload(Payload.builder().index(1).content("payload-1").build()).build();
+        for (int i = 0; i < 2; i++) {
+            assertNull(BeanCopyUtils.copy(source1, PrivateSupplierTarget.class).getPayload());
+            assertNotNull(BeanCopyUtils.copy(source2, PrivateSupplierTarget.class).getPayload());
+            assertThrows(InvokeIgnorePolicySupplierFailedException.class,
+                    () -> BeanCopyUtils.copy(source1, WrongReturnTypeTarget.class));
+        }
+    }
+
+    @Test
+    public void testInvalidSupplierFailsPlan() {
+        DefaultCopier copier = new DefaultCopier();
+        for (int i = 0; i < 2; i++) {
+            // Fails as the plan is compiled, before anything is copied
+            assertThrows(InvokeIgnorePolicySupplierFailedException.class,
+                    () -> copier.mapper(Source.class, WrongReturnTypeTarget.class, CopyOptions.DEFAULT));
+        }
+        // Nothing is cached for the pair
+        assertEquals(2, copier.getPlanCacheStats().getMissCount());
+    }
+
 }
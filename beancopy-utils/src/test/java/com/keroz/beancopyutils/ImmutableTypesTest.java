@@ -0,0 +1,88 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.keroz.beancopyutils.annotation.Immutable;
+import com.keroz.beancopyutils.reflection.ImmutableTypes;
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+import com.keroz.beancopyutils.reflection.TypeInfo;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class ImmutableTypesTest {
+
+    @Immutable
+    public static final class Money {
+        private final BigDecimal amount;
+
+        public Money(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+    }
+
+    public static final class Code {
+        private final String value;
+
+        public Code(String value) {
+            this.value = value;
+        }
+    }
+
+    @Data
+    public static class Mutable {
+        private String name = "mutable";
+    }
+
+    @Data
+    public static class Bean {
+        private BigDecimal amount = new BigDecimal("12.50");
+        private UUID id = UUID.randomUUID();
+        private Optional<String> nickname = Optional.of("nick");
+        private Money money = new Money(BigDecimal.TEN);
+        private Code code = new Code("code");
+        private Mutable mutable = new Mutable();
+    }
+
+    @Test
+    public void testShareImmutableValues() {
+        ImmutableTypes.register(Code.class);
+        Bean source = new Bean();
+        Bean target = BeanCopyUtils.copy(source, Bean.class);
+
+        assertSame(source.getAmount(), target.getAmount());
+        assertSame(source.getId(), target.getId());
+        assertSame(source.getNickname(), target.getNickname());
+        assertSame(source.getMoney(), target.getMoney());
+        assertSame(source.getCode(), target.getCode());
+        assertNotSame(source.getMutable(), target.getMutable());
+        assertEquals("mutable", target.getMutable().getName());
+
+        BigDecimal[] amounts = { BigDecimal.ONE, BigDecimal.TEN };
+        BigDecimal[] copiedAmounts = (BigDecimal[]) BeanCopyUtils.getCopier().copyArray(amounts, BigDecimal.class,
+                null, null);
+        assertSame(amounts[1], copiedAmounts[1]);
+        assertSame(source.getMoney(), BeanCopyUtils.copy(source.getMoney(), Money.class));
+    }
+
+    @Test
+    public void testClassification() {
+        assertTrue(TypeInfo.of(BigDecimal.class).isImmutable());
+        assertTrue(TypeInfo.of(Money.class).isImmutable());
+        assertEquals(GeneralType.PRIMITIVE, TypeInfo.of(Money.class).getGeneralType());
+        assertEquals(GeneralType.OBJECT, TypeInfo.of(Mutable.class).getGeneralType());
+    }
+
+}
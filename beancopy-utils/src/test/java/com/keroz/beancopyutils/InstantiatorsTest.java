@@ -0,0 +1,76 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.keroz.beancopyutils.exception.InstantiationException;
+import com.keroz.beancopyutils.reflection.Instantiators;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class InstantiatorsTest {
+
+    @Data
+    public static class PublicTarget {
+        private String name = "initialized";
+    }
+
+    @Data
+    public static class PrivateConstructorTarget {
+        private String name;
+
+        private PrivateConstructorTarget() {
+        }
+    }
+
+    @Data
+    public static class NoDefaultConstructorTarget {
+        private String name = "initialized";
+
+        // Takes no field, so it's not called to copy either
+        public NoDefaultConstructorTarget(int length) {
+            this.name = new String(new char[length]);
+        }
+    }
+
+    @Data
+    public static class RegisteredTarget {
+        private final String origin;
+        private String name;
+    }
+
+    @Data
+    public static class Source {
+        private String name = "source";
+    }
+
+    @Test
+    public void testInstantiate() {
+        assertEquals("initialized", Instantiators.get(PublicTarget.class).newInstance().getName());
+        assertEquals("source", BeanCopyUtils.copy(new Source(), PrivateConstructorTarget.class).getName());
+        assertThrows(InstantiationException.class, () -> Instantiators.get(Runnable.class).newInstance());
+
+        Instantiators.register(RegisteredTarget.class, () -> new RegisteredTarget("registered"));
+        RegisteredTarget registered = BeanCopyUtils.copy(new Source(), RegisteredTarget.class);
+        assertEquals("registered", registered.getOrigin());
+        assertEquals("source", registered.getName());
+    }
+
+    @Test
+    public void testBypassConstructor() {
+        assertThrows(InstantiationException.class,
+                () -> BeanCopyUtils.copy(new Source(), NoDefaultConstructorTarget.class));
+        Instantiators.setConstructorBypassAllowed(true);
+        try {
+            NoDefaultConstructorTarget target = BeanCopyUtils.copy(new Source(), NoDefaultConstructorTarget.class);
+            assertEquals("source", target.getName());
+            assertNull(Instantiators.get(NoDefaultConstructorTarget.class).newInstance().getName());
+        } finally {
+            Instantiators.setConstructorBypassAllowed(false);
+        }
+    }
+
+}
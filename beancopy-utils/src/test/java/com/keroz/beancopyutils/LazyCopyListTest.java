@@ -0,0 +1,69 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.keroz.beancopyutils.copier.LazyCopyList;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class LazyCopyListTest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Source {
+        private int id;
+    }
+
+    @Data
+    public static class Target {
+        private int id;
+    }
+
+    @Test
+    public void testCopyOnFirstRead() {
+        List<Source> sources = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            sources.add(new Source(i));
+        }
+        AtomicInteger copies = new AtomicInteger();
+        List<Target> targets = new LazyCopyList<>(sources, source -> {
+            copies.incrementAndGet();
+            return BeanCopyUtils.copy(source, Target.class);
+        });
+
+        assertEquals(1000, targets.size());
+        assertEquals(0, copies.get());
+        List<Target> page = targets.subList(10, 20);
+        assertEquals(15, page.get(5).getId());
+        assertSame(page.get(5), targets.get(15));
+        assertEquals(1, copies.get());
+        assertThrows(UnsupportedOperationException.class, () -> targets.add(new Target()));
+    }
+
+    @Test
+    public void testCopyCollectionLazy() {
+        List<Source> sources = new LinkedList<>(Arrays.asList(new Source(1), null, new Source(3)));
+        List<Target> targets = BeanCopyUtils.copyCollectionLazy(sources, Target.class);
+
+        assertEquals(3, targets.size());
+        assertEquals(3, targets.get(2).getId());
+        assertNull(targets.get(1));
+        assertEquals(1, targets.get(0).getId());
+        assertNull(BeanCopyUtils.copyCollectionLazy(null, Target.class));
+    }
+
+}
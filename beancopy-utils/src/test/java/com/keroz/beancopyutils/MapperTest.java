@@ -0,0 +1,79 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+import com.keroz.beancopyutils.copier.Mapper;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+public class MapperTest {
+
+    public interface Detailed {
+    }
+
+    @Data
+    public static class Source {
+        private int id = 1;
+        private String name;
+        private String detail = "detail";
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class SubSource extends Source {
+        private String extra = "extra";
+    }
+
+    @Data
+    public static class Target {
+        private int id;
+        private String name = "default";
+        @CopyIgnore(exceptionGroups = Detailed.class)
+        private String detail;
+    }
+
+    private static final Mapper<Source, Target> MAPPER = BeanCopyUtils.mapper(Source.class, Target.class);
+
+    @Test
+    public void testMap() {
+        Source source = new Source();
+        Target target = MAPPER.map(source);
+        assertEquals(1, target.getId());
+        assertNull(target.getName());
+        assertNull(target.getDetail());
+        assertNull(MAPPER.map(null));
+
+        Target existing = new Target();
+        assertSame(existing, MAPPER.map(new SubSource(), existing));
+        assertEquals(1, existing.getId());
+
+        List<Target> targets = Arrays.asList(new Source(), new SubSource()).stream().map(MAPPER)
+                .collect(Collectors.toList());
+        assertEquals(2, targets.size());
+    }
+
+    @Test
+    public void testMapWithOptions() {
+        CopyOptions options = CopyOptions.of(IgnorePolicy.NULL, Detailed.class);
+        for (Mapper<Source, Target> mapper : Arrays.asList(BeanCopyUtils.mapper(Source.class, Target.class, options),
+                new GeneratedCopier().mapper(Source.class, Target.class, options))) {
+            Target target = mapper.map(new Source());
+            assertEquals("default", target.getName());
+            assertEquals("detail", target.getDetail());
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.ParallelOptions;
+import com.keroz.beancopyutils.exception.InvokeIgnorePolicySupplierFailedException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class ParallelCopyTest {
+
+    private static final ParallelOptions PARALLEL = ParallelOptions.DEFAULT.withThreshold(100).withParallelism(4);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bean {
+        private int id;
+        private String name;
+    }
+
+    @Data
+    public static class FailingBean {
+        @CopyIgnore(supplierMethod = "fail")
+        private String name;
+
+        public boolean fail(Object source) {
+            if (((Bean) source).getId() == 500) {
+                throw new IllegalStateException("Failed on 500");
+            }
+            return false;
+        }
+    }
+
+    private List<Bean> newBeans(List<Bean> beans, int size) {
+        for (int i = 0; i < size; i++) {
+            beans.add(new Bean(i, "bean-" + i));
+        }
+        return beans;
+    }
+
+    @Test
+    public void testCopyCollectionParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (List<Bean> source : new List[] { newBeans(new ArrayList<>(), 1000),
+                    newBeans(new LinkedList<>(), 1000), newBeans(new ArrayList<>(), 10) }) {
+                List<Bean> target = BeanCopyUtils.copyCollectionParallel(source, Bean.class, null, null,
+                        PARALLEL.withExecutor(executor));
+                assertEquals(source, target);
+                assertEquals(source.getClass(), target.getClass());
+            }
+
+            LinkedHashSet<Bean> set = new LinkedHashSet<>(newBeans(new ArrayList<>(), 1000));
+            LinkedHashSet<Bean> copiedSet = BeanCopyUtils.copyCollectionParallel(set, Bean.class, PARALLEL);
+            assertEquals(new ArrayList<>(set), new ArrayList<>(copiedSet));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCopyArrayParallel() {
+        Bean[] source = newBeans(new ArrayList<>(), 1000).toArray(new Bean[0]);
+        Bean[] target = (Bean[]) BeanCopyUtils.getCopier().copyArrayParallel(source, Bean.class,
+                CopyOptions.DEFAULT, PARALLEL);
+        assertEquals(source.length, target.length);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(source[i], target[i]);
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        List<Bean> source = newBeans(new ArrayList<>(), 1000);
+        assertThrows(InvokeIgnorePolicySupplierFailedException.class,
+                () -> BeanCopyUtils.copyCollectionParallel(source, FailingBean.class, PARALLEL));
+    }
+
+}
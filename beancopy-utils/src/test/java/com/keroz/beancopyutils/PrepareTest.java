@@ -0,0 +1,123 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.keroz.beancopyutils.copier.ClassPair;
+import com.keroz.beancopyutils.copier.ClassPairs;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+
+public class PrepareTest {
+
+    @Data
+    public static class SourceItem {
+        private String name = "item";
+    }
+
+    @Data
+    public static class SourceDetail {
+        private String note = "note";
+    }
+
+    @Data
+    public static class Source {
+        private String name = "source";
+        private SourceDetail detail = new SourceDetail();
+        private List<SourceItem> items = new ArrayList<>(Arrays.asList(new SourceItem()));
+        private Map<String, SourceItem> itemsByName = new HashMap<>();
+    }
+
+    @Data
+    public static class TargetItem {
+        private String name;
+    }
+
+    @Data
+    public static class TargetDetail {
+        private String note;
+    }
+
+    @Data
+    public static class Target {
+        private String name;
+        private TargetDetail detail;
+        private List<TargetItem> items;
+        private Map<String, TargetItem> itemsByName;
+    }
+
+    @Test
+    public void testPrepare() {
+        DefaultCopier copier = new DefaultCopier();
+        copier.prepare(Source.class, Target.class);
+        // The pair itself, the detail and the items
+        assertEquals(3, copier.getPlanCacheStats().getMissCount());
+
+        Source source = new Source();
+        source.getItemsByName().put("item", new SourceItem());
+        Target target = copier.copy(source, Target.class, CopyOptions.DEFAULT);
+        assertEquals("note", target.getDetail().getNote());
+        assertEquals("item", target.getItems().get(0).getName());
+        assertEquals("item", target.getItemsByName().get("item").getName());
+        assertEquals(3, copier.getPlanCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testRecordAndReplay() throws IOException {
+        DefaultCopier copier = new DefaultCopier();
+        copier.setRecording(true);
+        copier.copy(new Source(), Target.class, CopyOptions.DEFAULT);
+        copier.setRecording(false);
+        assertEquals(Arrays.asList(ClassPair.of(Source.class, Target.class),
+                ClassPair.of(SourceDetail.class, TargetDetail.class),
+                ClassPair.of(SourceItem.class, TargetItem.class)), new ArrayList<>(copier.getRecordedPairs()));
+
+        StringWriter writer = new StringWriter();
+        ClassPairs.write(copier.getRecordedPairs(), writer);
+        List<ClassPair> pairs = ClassPairs.read(
+                new StringReader("# recorded\n" + writer + "com.example.Removed -> com.example.RemovedDTO\n"),
+                getClass().getClassLoader());
+        assertEquals(new ArrayList<>(copier.getRecordedPairs()), pairs);
+
+        DefaultCopier copierAtStartup = new DefaultCopier();
+        // Prepared along with the outer pair only
+        assertEquals(new LinkedHashSet<>(pairs.subList(1, 3)),
+                copierAtStartup.getNestedPairs(Source.class, Target.class));
+        BeanCopyUtils.setCopier(copierAtStartup);
+        try {
+            AtomicInteger tasks = new AtomicInteger();
+            BeanCopyUtils.prepareAll(pairs, task -> {
+                tasks.incrementAndGet();
+                ForkJoinPool.commonPool().execute(task);
+            });
+            assertEquals(1, tasks.get());
+            assertTrue(BeanCopyUtils.getRecordedPairs().isEmpty());
+            // All the pairs are cached, so copying compiles nothing
+            long missCount = copierAtStartup.getPlanCacheStats().getMissCount();
+            Source source = new Source();
+            source.getItemsByName().put("item", new SourceItem());
+            Target target = BeanCopyUtils.copy(source, Target.class);
+            assertEquals("item", target.getItemsByName().get("item").getName());
+            assertEquals(missCount, copierAtStartup.getPlanCacheStats().getMissCount());
+        } finally {
+            BeanCopyUtils.setCopier(new DefaultCopier());
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.keroz.beancopyutils.annotation.CopyIgnore.IgnorePolicy;
+import com.keroz.beancopyutils.copier.Copier;
+import com.keroz.beancopyutils.copier.CopyOptions;
+import com.keroz.beancopyutils.copier.DefaultCopier;
+import com.keroz.beancopyutils.copier.GeneratedCopier;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+import lombok.ToString;
+
+public class SimpleCopyTest {
+
+    public static class Source1 {
+        private int id = 1;
+        private String name = "source1";
+    }
+
+    @ToString
+    public static class Target1 {
+        private int id;
+        private String name;
+    }
+
+    /**
+     * Copy without getters/setters.
+     */
+    @Test
+    public void testWithoutGettersAndSetters() {
+        System.out.println(BeanCopyUtils.copy(new Source1(), Target1.class));
+    }
+
+    @Data
+    public static class Source2 {
+        private int id;
+        private String name;
+    }
+
+    @Data
+    @ToString
+    public static class Target2 {
+        private int id;
+        private String name;
+    }
+
+    /**
+     * Copy with getters/setters.
+     */
+    @Test
+    public void testWithGettersAndSetters() {
+        System.out.println(BeanCopyUtils.copy(new Source1(), Target1.class));
+    }
+
+    @Data
+    public static class NumericSource {
+        private int int1;
+        private Integer integer1;
+        private int int2;
+        private long long1;
+        private Long long2;
+    }
+
+    @Data
+    public static class NumericTarget {
+        private Integer int1 = -1;
+        private int integer1 = -1;
+        private long int2 = -1;
+        private long long1 = -1;
+        private Long long2 = -1L;
+    }
+
+    /**
+     * Copy between primitives and their wrappers, where only an {@code Integer}
+     * zero is empty.
+     */
+    @Test
+    public void testPrimitivesAndWrappers() {
+        NumericSource source = new NumericSource();
+        source.setInt1(1);
+        source.setInteger1(2);
+        source.setInt2(3);
+        for (Copier copier : new Copier[] { new DefaultCopier(), new GeneratedCopier() }) {
+            NumericTarget target = copier.copy(source, NumericTarget.class, CopyOptions.DEFAULT);
+            assertEquals(1, target.getInt1());
+            assertEquals(2, target.getInteger1());
+            assertEquals(3L, target.getInt2());
+            assertEquals(0L, target.getLong1());
+            assertNull(target.getLong2());
+
+            NumericSource zeros = new NumericSource();
+            zeros.setInteger1(0);
+            zeros.setLong2(0L);
+            target = copier.copy(zeros, NumericTarget.class, CopyOptions.DEFAULT.withIgnorePolicy(IgnorePolicy.EMPTY));
+            assertEquals(-1, target.getInt1());
+            assertEquals(-1, target.getInteger1());
+            assertEquals(-1L, target.getInt2());
+            assertEquals(0L, target.getLong1());
+            assertEquals(0L, target.getLong2());
+        }
+    }
+
+}
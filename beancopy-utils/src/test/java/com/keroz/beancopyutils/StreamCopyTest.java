@@ -0,0 +1,77 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.keroz.beancopyutils.copier.CopyOptions;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+public class StreamCopyTest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Source {
+        private int id;
+        private String name;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class SubSource extends Source {
+        private String extra = "extra";
+
+        public SubSource(int id, String name) {
+            super(id, name);
+        }
+    }
+
+    @Data
+    public static class Target {
+        private int id;
+        private String name;
+    }
+
+    @Test
+    public void testCopyStream() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Source> sources = Stream.iterate(0, i -> i + 1)
+                .peek(i -> pulled.incrementAndGet())
+                .map(i -> i % 2 == 0 ? new Source(i, "source-" + i) : new SubSource(i, "sub-" + i));
+        List<Target> targets = BeanCopyUtils.copyStream(sources, Target.class).limit(5)
+                .collect(Collectors.toList());
+
+        assertEquals(5, targets.size());
+        assertEquals(5, pulled.get());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, targets.get(i).getId());
+            assertEquals((i % 2 == 0 ? "source-" : "sub-") + i, targets.get(i).getName());
+        }
+    }
+
+    @Test
+    public void testCopyIterator() {
+        Iterator<Source> sources = Arrays.asList(new Source(1, "a"), null, new SubSource(2, "b")).iterator();
+        Iterator<Target> targets = BeanCopyUtils.copyIterator(sources, Target.class, CopyOptions.DEFAULT);
+
+        assertEquals("a", targets.next().getName());
+        assertNull(targets.next());
+        assertEquals(2, targets.next().getId());
+        assertFalse(targets.hasNext());
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.keroz.beancopyutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import com.keroz.beancopyutils.reflection.ReflectionUtils.GeneralType;
+import com.keroz.beancopyutils.reflection.TypeInfo;
+
+import org.junit.jupiter.api.Test;
+
+public class TypeInfoTest {
+
+    @Test
+    public void testClassification() {
+        assertSame(TypeInfo.of(Integer.class), TypeInfo.of(Integer.class));
+
+        assertEquals(Integer.class, TypeInfo.of(int.class).getWrapperType());
+        assertEquals(int.class, TypeInfo.of(Integer.class).getPrimitiveType());
+        assertNull(TypeInfo.of(String.class).getPrimitiveType());
+
+        for (Class<?> type : new Class<?>[] { int.class, Long.class, String.class, LocalDate.class,
+                TimeUnit.class, TimeUnit.SECONDS.getClass() }) {
+            assertTrue(TypeInfo.of(type).isImmutable(), type.getName());
+            assertEquals(GeneralType.PRIMITIVE, TypeInfo.of(type).getGeneralType(), type.getName());
+        }
+        assertFalse(TypeInfo.of(Date.class).isImmutable());
+        assertTrue(TypeInfo.of(Date.class).isPrimitive());
+
+        assertEquals(GeneralType.ARRAY, TypeInfo.of(int[].class).getGeneralType());
+        assertEquals(GeneralType.COLLECTION, TypeInfo.of(ArrayList.class).getGeneralType());
+        assertEquals(GeneralType.OBJECT, TypeInfo.of(Object.class).getGeneralType());
+    }
+
+}